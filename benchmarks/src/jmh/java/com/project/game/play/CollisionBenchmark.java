@@ -0,0 +1,83 @@
+package com.project.game.play;
+
+import com.project.game.platform.AudioSink;
+import com.project.game.platform.FixedWorldBounds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Mesure la détection de collisions (remplissage de la grille puis test des projectiles)
+ * pour des ennemis regroupés ou répartis sur tout l'écran.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+public class CollisionBenchmark {
+
+    /**
+     * Nombre d'ennemis placés.
+     */
+    @Param({"100", "1000", "10000"})
+    public int ennemis;
+
+    /**
+     * Disposition des ennemis : "dense" les regroupe dans une zone de 256 pixels, "sparse" les répartit sur tout l'écran.
+     */
+    @Param({"dense", "sparse"})
+    public String disposition;
+
+    private Play play;
+
+    @Setup
+    public void setup() {
+        play = new Play(new FixedWorldBounds(1280, 720), () -> 0, AudioSink.SILENCE);
+        play.setEnnemisMax(ennemis);
+
+        Random random = new Random(42);
+        float zone = "dense".equals(disposition) ? 256 : 1280;
+        EntityStore stockEnnemis = play.getEnnemis();
+        stockEnnemis.clear();
+        for (int i = 0; i < ennemis; i++) {
+            Enemy.spawn(stockEnnemis, random.nextFloat() * zone, random.nextFloat() * Math.min(zone, 720), 0);
+        }
+        ProjectileRing stockProjectiles = play.getProjectiles();
+        stockProjectiles.clear();
+        for (int i = 0, n = stockProjectiles.getCapacite(); i < n; i++) {
+            Projectile.spawn(stockProjectiles, random.nextFloat() * zone, random.nextFloat() * Math.min(zone, 720));
+        }
+    }
+
+    @Benchmark
+    public int detectCollisions() {
+        // Les collisions détruisent des entités : on les ranime pour mesurer toujours la même situation
+        EntityStore stockEnnemis = play.getEnnemis();
+        ProjectileRing stockProjectiles = play.getProjectiles();
+        Arrays.fill(stockEnnemis.etat, 0, stockEnnemis.size, (byte) 0);
+        Arrays.fill(stockProjectiles.etat, (byte) 0);
+        play.remplirGrille();
+        play.detectCollisions();
+        return stockEnnemis.etat[0];
+    }
+
+    @Benchmark
+    public boolean checkCollision() {
+        EntityStore e = play.getEnnemis();
+        ProjectileRing p = play.getProjectiles();
+        return play.checkCollision(p.x[0], p.y[0], Projectile.TAILLE, Projectile.TAILLE, e.x[0], e.y[0], e.largeur[0], e.hauteur[0]);
+    }
+
+    @Benchmark
+    public float instantContact() {
+        EntityStore e = play.getEnnemis();
+        ProjectileRing p = play.getProjectiles();
+        return SweptAabb.instantContact(p.x[0], p.y[0], 0, Projectile.VITESSE / 60, Projectile.TAILLE, Projectile.TAILLE,
+                e.x[0], e.y[0], 0, -Enemy.VITESSE_BASE / 60, e.largeur[0], e.hauteur[0]);
+    }
+}
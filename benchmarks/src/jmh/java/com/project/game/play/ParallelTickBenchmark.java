@@ -0,0 +1,67 @@
+package com.project.game.play;
+
+import com.project.game.key.Actions;
+import com.project.game.platform.AudioSink;
+import com.project.game.platform.FixedWorldBounds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Compare le pas de simulation séquentiel et le pas parallèle ({@link ParallelStep})
+ * au-delà de {@link Play#SEUIL_PARALLELE} ennemis, le joueur tirant en continu.
+ * Le pas parallèle n'est utilisé que si le pool commun a au moins deux fils : sur une machine à un seul cœur,
+ * les deux cas mesurent le même chemin séquentiel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+public class ParallelTickBenchmark {
+
+    /**
+     * Nombre d'ennemis à l'écran, au-delà du seuil par défaut.
+     */
+    @Param({"5000", "20000"})
+    public int ennemis;
+
+    /**
+     * Indique si le pas est calculé en parallèle.
+     */
+    @Param({"false", "true"})
+    public boolean parallele;
+
+    private Play play;
+    private float pas;
+
+    @Setup
+    public void setup() {
+        play = new Play(new FixedWorldBounds(1280, 720), () -> Actions.TIR, AudioSink.SILENCE);
+        play.setVies(Integer.MAX_VALUE);
+        play.setEnnemisMax(ennemis);
+        play.setEnnemisMin(ennemis);
+        play.setSeuilParallele(parallele ? Play.SEUIL_PARALLELE : Integer.MAX_VALUE);
+        pas = play.getPas();
+
+        Random random = new Random(42);
+        EntityStore stockEnnemis = play.getEnnemis();
+        stockEnnemis.clear();
+        for (int i = 0; i < ennemis; i++) {
+            Enemy.spawn(stockEnnemis, random.nextFloat() * 1280, random.nextFloat() * 720, Enemy.VITESSE_BASE);
+        }
+        // Atteindre un régime permanent avant la mesure
+        for (int i = 0; i < 600; i++) {
+            play.tick(pas);
+        }
+    }
+
+    @Benchmark
+    public int tick() {
+        play.tick(pas);
+        return play.getScore();
+    }
+}
@@ -0,0 +1,67 @@
+package com.project.game.play;
+
+import com.project.game.key.Actions;
+import com.project.game.platform.AudioSink;
+import com.project.game.platform.FixedWorldBounds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Mesure le coût d'un pas complet de simulation ({@link Play#tick(float)})
+ * selon le nombre d'ennemis et selon que le joueur tire ou non.
+ * Les ennemis sont d'abord répartis au hasard sur tout l'écran, comme dans {@link CollisionBenchmark},
+ * puis les vagues complétées automatiquement prennent le relais pendant la mise en régime.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+public class PlayUpdateBenchmark {
+
+    /**
+     * Nombre maximal d'ennemis à l'écran.
+     */
+    @Param({"13", "100", "1000", "10000"})
+    public int ennemis;
+
+    /**
+     * Indique si le joueur maintient la touche de tir, ce qui maintient des projectiles en vol à la cadence de l'arme.
+     */
+    @Param({"false", "true"})
+    public boolean tir;
+
+    private Play play;
+    private float pas;
+
+    @Setup
+    public void setup() {
+        int actions = tir ? Actions.TIR : 0;
+        play = new Play(new FixedWorldBounds(1280, 720), () -> actions, AudioSink.SILENCE);
+        play.setVies(Integer.MAX_VALUE);
+        play.setEnnemisMax(ennemis);
+        play.setEnnemisMin(ennemis);
+        pas = play.getPas();
+
+        Random random = new Random(42);
+        EntityStore stockEnnemis = play.getEnnemis();
+        stockEnnemis.clear();
+        for (int i = 0; i < ennemis; i++) {
+            Enemy.spawn(stockEnnemis, random.nextFloat() * 1280, random.nextFloat() * 720, Enemy.VITESSE_BASE);
+        }
+        // Atteindre un régime permanent avant la mesure
+        for (int i = 0; i < 600; i++) {
+            play.tick(pas);
+        }
+    }
+
+    @Benchmark
+    public int tick() {
+        play.tick(pas);
+        return play.getScore();
+    }
+}
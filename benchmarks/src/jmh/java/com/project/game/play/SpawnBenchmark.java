@@ -0,0 +1,53 @@
+package com.project.game.play;
+
+import com.project.game.platform.AudioSink;
+import com.project.game.platform.FixedWorldBounds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Mesure le débit d'apparition et de disparition des entités :
+ * une vague complète d'ennemis, et le remplissage puis la vidange du tampon des projectiles.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+public class SpawnBenchmark {
+
+    /**
+     * Taille d'une vague d'ennemis.
+     */
+    @Param({"13", "1000", "10000"})
+    public int ennemis;
+
+    private Play play;
+
+    @Setup
+    public void setup() {
+        play = new Play(new FixedWorldBounds(1280, 720), () -> 0, AudioSink.SILENCE);
+        play.setEnnemisMax(ennemis);
+    }
+
+    @Benchmark
+    public int ajouterVague() {
+        play.getEnnemis().clear();
+        play.ajouterVague();
+        return play.getEnnemis().size();
+    }
+
+    @Benchmark
+    public int spawnDespawnProjectiles() {
+        ProjectileRing projectiles = play.getProjectiles();
+        int apparus = projectiles.getCapacite();
+        for (int i = 0; i < apparus; i++) {
+            Projectile.spawn(projectiles, i, 0);
+        }
+        projectiles.deplacer(1000);
+        projectiles.retirerInactifs(720);
+        return apparus + projectiles.size;
+    }
+}
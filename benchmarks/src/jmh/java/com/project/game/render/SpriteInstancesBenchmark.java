@@ -0,0 +1,41 @@
+package com.project.game.render;
+
+import com.badlogic.gdx.graphics.Color;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Mesure le remplissage, côté processeur, de la liste des sprites d'une image avant son envoi par instances.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+public class SpriteInstancesBenchmark {
+
+    /**
+     * Nombre de sprites par image.
+     */
+    @Param({"1000", "100000", "300000"})
+    public int sprites;
+
+    private SpriteInstances instances;
+
+    @Setup
+    public void setup() {
+        instances = new SpriteInstances(sprites);
+    }
+
+    @Benchmark
+    public int remplir() {
+        instances.clear();
+        for (int i = 0; i < sprites; i++) {
+            float x = i % 1280, y = (i / 1280) % 720;
+            instances.ajouter(x, y, 128, 128, 0, 0.5f, 0.5f, 0, Color.WHITE_FLOAT_BITS);
+        }
+        return instances.getDonnees().remaining();
+    }
+}
@@ -0,0 +1,211 @@
+package com.project.game;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+
+/**
+ * Texte d'interface dont la mise en page est conservée d'une image à l'autre.
+ * Le texte est formé d'un préfixe fixe suivi d'une valeur (nombre ou texte) ; il est écrit dans un tampon
+ * de caractères réutilisé et sa mise en page ({@link GlyphLayout}) n'est recalculée que lorsque la valeur change.
+ * Tant que la valeur ne change pas, l'affichage n'alloue donc rien.
+ */
+public class HudText {
+
+    /**
+     * Police et couleur du texte, fixées à la création.
+     */
+    private final BitmapFont police;
+    private final Color couleur;
+
+    /**
+     * Préfixe affiché avant la valeur.
+     */
+    private final String prefixe;
+
+    /**
+     * Tampon contenant le texte complet.
+     */
+    private final Caracteres texte = new Caracteres();
+
+    /**
+     * Mise en page du texte, recalculée uniquement lorsque la valeur change.
+     */
+    private final GlyphLayout layout = new GlyphLayout();
+
+    /**
+     * Dernière valeur affichée : nombre (entier ou dixièmes) ou texte, et validité de la mise en page.
+     */
+    private long valeurNombre;
+    private String valeurTexte;
+    private boolean valide;
+
+    /**
+     * Crée un texte d'interface.
+     *
+     * @param police  Police utilisée.
+     * @param couleur Couleur du texte.
+     * @param prefixe Texte fixe affiché avant la valeur.
+     */
+    public HudText(BitmapFont police, Color couleur, String prefixe) {
+        this.police = police;
+        this.couleur = new Color(couleur);
+        this.prefixe = prefixe;
+    }
+
+    /**
+     * Affiche un nombre entier après le préfixe.
+     *
+     * @param valeur Valeur à afficher.
+     */
+    public void setValeur(int valeur) {
+        if (valide && valeurTexte == null && valeurNombre == valeur) {
+            return;
+        }
+        valeurNombre = valeur;
+        valeurTexte = null;
+        texte.effacer();
+        texte.ajouter(prefixe);
+        texte.ajouter(valeur);
+        mettreEnPage();
+    }
+
+    /**
+     * Affiche un nombre arrondi au dixième après le préfixe (par exemple {@code 0.7}).
+     *
+     * @param valeur Valeur à afficher.
+     */
+    public void setDixiemes(float valeur) {
+        int dixiemes = Math.round(valeur * 10);
+        // Décalage pour distinguer un nombre en dixièmes d'un entier déjà affiché
+        long cle = (1L << 32) | (dixiemes & 0xFFFFFFFFL);
+        if (valide && valeurTexte == null && valeurNombre == cle) {
+            return;
+        }
+        valeurNombre = cle;
+        valeurTexte = null;
+        texte.effacer();
+        texte.ajouter(prefixe);
+        if (dixiemes < 0) {
+            texte.ajouter('-');
+            dixiemes = -dixiemes;
+        }
+        texte.ajouter(dixiemes / 10);
+        texte.ajouter('.');
+        texte.ajouter((char) ('0' + dixiemes % 10));
+        mettreEnPage();
+    }
+
+    /**
+     * Affiche un texte après le préfixe. La mise en page n'est recalculée que si la référence change :
+     * les textes constants (noms de touches, libellés) ne coûtent donc rien d'une image à l'autre.
+     *
+     * @param valeur Texte à afficher.
+     */
+    public void setTexte(String valeur) {
+        if (valide && valeurTexte == valeur) {
+            return;
+        }
+        valeurTexte = valeur;
+        texte.effacer();
+        texte.ajouter(prefixe);
+        texte.ajouter(valeur);
+        mettreEnPage();
+    }
+
+    /**
+     * Recalcule la mise en page à partir du tampon.
+     */
+    private void mettreEnPage() {
+        layout.setText(police, texte, couleur, 0, Align.left, false);
+        valide = true;
+    }
+
+    /**
+     * Dessine le texte, avec sa dernière mise en page.
+     *
+     * @param batch Batch utilisé pour le rendu, déjà démarré.
+     * @param x     Position en x du coin haut gauche du texte.
+     * @param y     Position en y du coin haut gauche du texte.
+     */
+    public void draw(Batch batch, float x, float y) {
+        police.draw(batch, layout, x, y);
+    }
+
+    /**
+     * Retourne la largeur du texte mis en page.
+     *
+     * @return Largeur en pixels.
+     */
+    public float getLargeur() {
+        return layout.width;
+    }
+
+    /**
+     * Tampon de caractères réutilisable, dans lequel les nombres sont écrits sans créer de chaîne.
+     */
+    private static class Caracteres implements CharSequence {
+        private char[] caracteres = new char[32];
+        private int longueur;
+
+        private void effacer() {
+            longueur = 0;
+        }
+
+        private void ajouter(char c) {
+            if (longueur == caracteres.length) {
+                char[] agrandi = new char[caracteres.length * 2];
+                System.arraycopy(caracteres, 0, agrandi, 0, longueur);
+                caracteres = agrandi;
+            }
+            caracteres[longueur++] = c;
+        }
+
+        private void ajouter(String s) {
+            for (int i = 0, n = s.length(); i < n; i++) {
+                ajouter(s.charAt(i));
+            }
+        }
+
+        private void ajouter(int valeur) {
+            long v = valeur;
+            if (v < 0) {
+                ajouter('-');
+                v = -v;
+            }
+            // Les chiffres sont écrits à l'envers puis retournés
+            int debut = longueur;
+            do {
+                ajouter((char) ('0' + v % 10));
+                v /= 10;
+            } while (v > 0);
+            for (int i = debut, j = longueur - 1; i < j; i++, j--) {
+                char c = caracteres[i];
+                caracteres[i] = caracteres[j];
+                caracteres[j] = c;
+            }
+        }
+
+        @Override
+        public int length() {
+            return longueur;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return caracteres[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(caracteres, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(caracteres, 0, longueur);
+        }
+    }
+}
@@ -2,13 +2,27 @@ package com.project.game;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.assets.AssetManager;
+import com.project.game.asset.TextureCache;
+import com.project.game.debug.StartupTimer;
+import com.project.game.key.KeyManager;
+import com.project.game.platform.GpuInstancing;
+import com.project.game.play.Play;
+import com.project.game.replay.Recording;
+import com.project.game.save.HighScores;
+import com.project.game.save.PersistenceService;
+import com.project.game.save.Settings;
 import com.project.game.sound.MusicManager;
+import com.project.game.sound.SoundBank;
 import com.project.game.state.ManagerState;
 import com.project.game.state.MenuState;
+import com.project.game.state.PlayState;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * Classe principale de l'application, héritant de la classe Game.
@@ -24,9 +38,9 @@ public class Main extends Game
 {
 
     /**
-     * Objet utilisé pour le rendu graphique 2D.
+     * Contexte de rendu 2D partagé par tous les états du jeu.
      */
-    private SpriteBatch batch;
+    private RenderContext contexte;
 
     /**
      * Gestionnaire des états du jeu.
@@ -38,19 +52,141 @@ public class Main extends Game
      */
     private static MusicManager musicManager = new MusicManager();
 
+    /**
+     * Banque des effets sonores, chargés une seule fois au démarrage.
+     */
+    private static SoundBank soundBank = new SoundBank();
+
+    /**
+     * Gestionnaire des ressources chargées (textures, atlas, cartes), capable de les charger en arrière-plan.
+     */
+    private static AssetManager assetManager;
+
+    /**
+     * Cache de textures partagé par toutes les entités du jeu.
+     */
+    private static TextureCache textureCache;
+
+    /**
+     * Correspondance entre les touches et les actions du joueur, qui reçoit les événements clavier.
+     */
+    private static KeyManager keyManager;
+
+    /**
+     * Fichiers locaux des paramètres et des meilleurs scores.
+     */
+    private static final String FICHIER_PARAMETRES = "save/settings.json";
+    private static final String FICHIER_SCORES = "save/scores.json";
+
+    /**
+     * Service d'écriture des fichiers sauvegardés, en arrière-plan.
+     */
+    private static PersistenceService persistance;
+
+    /**
+     * Paramètres et meilleurs scores, lus au démarrage.
+     */
+    private static Settings settings;
+    private static HighScores highScores;
+
+    /**
+     * Chemin d'une partie enregistrée à rejouer au démarrage, ou null pour afficher le menu.
+     */
+    private final String cheminReplay;
+
+    /**
+     * Dessin instancié fourni par le lanceur.
+     */
+    private static GpuInstancing instancing = GpuInstancing.AUCUN;
+
+    /**
+     * Nombre d'images de la partie jouées par un lancement d'entraînement avant de quitter.
+     */
+    private static final int IMAGES_ENTRAINEMENT = 180;
+
+    /**
+     * Indique si l'application est un lancement d'entraînement de l'archive CDS (voir {@link #setEntrainement(boolean)}).
+     */
+    private boolean entrainement;
+
+    /**
+     * Images de la partie dessinées pendant l'entraînement, ou -1 tant que la partie n'est pas lancée.
+     */
+    private int imagesEntrainement = -1;
+
+    /**
+     * Crée l'application, qui démarre sur le menu principal.
+     */
+    public Main()
+    {
+        this(null);
+    }
+
+    /**
+     * Crée l'application en rejouant une partie enregistrée au démarrage.
+     *
+     * @param cheminReplay Chemin du fichier d'enregistrement (voir {@link PlayState#DERNIERE_PARTIE}), ou null.
+     */
+    public Main(String cheminReplay)
+    {
+        this(cheminReplay, GpuInstancing.AUCUN);
+    }
+
+    /**
+     * Crée l'application avec le dessin instancié de la plateforme.
+     *
+     * @param cheminReplay Chemin du fichier d'enregistrement à rejouer au démarrage, ou null.
+     * @param instancing   Dessin instancié, ou {@link GpuInstancing#AUCUN} pour tout dessiner avec le SpriteBatch.
+     */
+    public Main(String cheminReplay, GpuInstancing instancing)
+    {
+        this.cheminReplay = cheminReplay;
+        Main.instancing = instancing;
+    }
+
     /**
      * Méthode appelée au démarrage de l'application.
-     * Initialise les objets nécessaires (rendu graphique, état initial, musique de fond).
+     * Initialise les objets nécessaires (rendu graphique, effets sonores, état initial, musique de fond).
      */
     @Override
     public void create()
     {
-        batch = new SpriteBatch();
-        managerState = new ManagerState();
-        managerState.setState(new MenuState(managerState));
+        StartupTimer.marquer(StartupTimer.CREATION);
+        contexte = new RenderContext(instancing);
+        assetManager = new AssetManager();
+        textureCache = new TextureCache(assetManager);
+        persistance = new PersistenceService(new File(Gdx.files.getLocalStoragePath()));
+        settings = persistance.lireJson(FICHIER_PARAMETRES, Settings.class);
+        if (settings == null) settings = new Settings();
+        highScores = persistance.lireJson(FICHIER_SCORES, HighScores.class);
+        if (highScores == null) highScores = new HighScores();
+        musicManager.setVolume(settings.getVolume());
+        keyManager = new KeyManager("key/Keys.json", persistance);
+        Gdx.input.setInputProcessor(keyManager);
+        soundBank.charger(Play.SON_PROJECTILE, 4, 0.2f);
+        soundBank.charger(Play.SON_DESTRUCTION, 6, 1.05f);
+        managerState = new ManagerState(contexte);
+        Recording enregistrement = cheminReplay != null ? lireEnregistrement(cheminReplay) : null;
+        managerState.chargerState(enregistrement != null ? PlayState.chargement(enregistrement) : MenuState.chargement());
         musicManager.play("sound/space_background_music.mp3");
     }
 
+    /**
+     * Lit une partie enregistrée.
+     *
+     * @param chemin Chemin du fichier d'enregistrement.
+     * @return L'enregistrement, ou null s'il n'a pas pu être lu.
+     */
+    private static Recording lireEnregistrement(String chemin)
+    {
+        try (InputStream entree = new BufferedInputStream(new FileInputStream(chemin))) {
+            return Recording.lire(entree);
+        } catch (IOException e) {
+            Gdx.app.error("Main", "Erreur de lecture de l'enregistrement " + chemin + " : " + e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Méthode appelée à chaque image pour mettre à jour et afficher le jeu.
      * Elle gère les mises à jour des états et leur rendu graphique.
@@ -59,7 +195,38 @@ public class Main extends Game
     public void render()
     {
         managerState.update(Gdx.graphics.getDeltaTime());
+        contexte.appliquer();
         managerState.render();
+        StartupTimer.marquer(StartupTimer.PREMIERE_IMAGE);
+        if (entrainement) entrainer();
+    }
+
+    /**
+     * Fait passer un lancement d'entraînement par les écrans du démarrage : le menu, puis une partie lancée
+     * dès la première image du menu, et quitte après {@link #IMAGES_ENTRAINEMENT} images de la partie.
+     */
+    private void entrainer()
+    {
+        if (imagesEntrainement >= 0) {
+            if (StartupTimer.estAtteinte(StartupTimer.PREMIERE_PARTIE) && ++imagesEntrainement >= IMAGES_ENTRAINEMENT) {
+                Gdx.app.exit();
+            }
+        } else if (StartupTimer.estAtteinte(StartupTimer.PREMIER_MENU)) {
+            managerState.chargerState(PlayState.chargement());
+            imagesEntrainement = 0;
+        }
+    }
+
+    /**
+     * Fait de l'application un lancement d'entraînement, qui charge les classes du menu et de la partie
+     * puis quitte seul : la machine virtuelle peut alors enregistrer ces classes dans une archive CDS
+     * (tâche Gradle lwjgl3:cdsArchive). À appeler avant le démarrage de l'application.
+     *
+     * @param entrainement Vrai pour un lancement d'entraînement.
+     */
+    public void setEntrainement(boolean entrainement)
+    {
+        this.entrainement = entrainement;
     }
 
     /**
@@ -69,10 +236,13 @@ public class Main extends Game
     @Override
     public void dispose()
     {
-        batch.begin();
-        batch.dispose();
+        if (managerState != null) managerState.setState(null);
         musicManager.dispose();
-        batch.end();
+        soundBank.dispose();
+        textureCache.dispose();
+        assetManager.dispose();
+        contexte.dispose();
+        persistance.dispose();
     }
 
     /**
@@ -81,17 +251,31 @@ public class Main extends Game
      * @param width  Nouvelle largeur de la fenêtre.
      * @param height Nouvelle hauteur de la fenêtre.
      */
-    @Override public void resize(int width, int height) {}
+    @Override public void resize(int width, int height) {
+        if (contexte != null) contexte.resize(width, height);
+        if (managerState != null) managerState.resize(width, height);
+    }
 
     /**
-     * Méthode appelée lorsque l'application est mise en pause (ex. : interruption sur mobile).
+     * Méthode appelée lorsque l'application est mise en pause (fenêtre réduite ou sans focus, interruption sur mobile).
+     * Les relâchements de touches n'étant plus reçus, toutes les actions sont relâchées ;
+     * la musique et les effets sonores sont suspendus, ainsi que l'état actif.
      */
-    @Override public void pause() {}
+    @Override public void pause() {
+        if (keyManager != null) keyManager.relacher();
+        musicManager.pause();
+        soundBank.pause();
+        if (managerState != null) managerState.pause();
+    }
 
     /**
      * Méthode appelée lorsque l'application reprend après une pause.
      */
-    @Override public void resume() {}
+    @Override public void resume() {
+        musicManager.resume();
+        soundBank.resume();
+        if (managerState != null) managerState.resume();
+    }
 
     /**
      * Définit un nouveau gestionnaire de musique.
@@ -110,4 +294,99 @@ public class Main extends Game
     public static MusicManager getMusicManager() {
         return musicManager;
     }
+
+    /**
+     * Retourne la banque des effets sonores.
+     *
+     * @return Instance unique de SoundBank.
+     */
+    public static SoundBank getSoundBank() {
+        return soundBank;
+    }
+
+    /**
+     * Retourne le gestionnaire des ressources de l'application.
+     *
+     * @return Instance unique d'AssetManager.
+     */
+    public static AssetManager getAssetManager() {
+        return assetManager;
+    }
+
+    /**
+     * Retourne le dessin instancié fourni par le lanceur.
+     *
+     * @return Dessin instancié, éventuellement {@link GpuInstancing#AUCUN}.
+     */
+    public static GpuInstancing getInstancing() {
+        return instancing;
+    }
+
+    /**
+     * Retourne le cache de textures partagé.
+     *
+     * @return Instance unique de TextureCache.
+     */
+    public static TextureCache getTextureCache() {
+        return textureCache;
+    }
+
+    /**
+     * Retourne la correspondance entre les touches et les actions du joueur.
+     *
+     * @return Instance partagée de KeyManager.
+     */
+    public static KeyManager getKeyManager() {
+        return keyManager;
+    }
+
+    /**
+     * Retourne le service d'écriture des fichiers sauvegardés.
+     *
+     * @return Instance unique de PersistenceService.
+     */
+    public static PersistenceService getPersistance() {
+        return persistance;
+    }
+
+    /**
+     * Retourne la table des meilleurs scores.
+     *
+     * @return Table partagée des meilleurs scores.
+     */
+    public static HighScores getHighScores() {
+        return highScores;
+    }
+
+    /**
+     * Retourne les paramètres du jeu.
+     *
+     * @return Paramètres lus au démarrage.
+     */
+    public static Settings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Sauvegarde les paramètres actuels (volume) en arrière-plan.
+     */
+    public static void sauvegarderParametres() {
+        settings.setVolume(musicManager.getVolume());
+        persistance.enregistrerJson(FICHIER_PARAMETRES, settings);
+    }
+
+    /**
+     * Ajoute le score d'une partie terminée à la table des meilleurs scores et la sauvegarde en arrière-plan.
+     *
+     * @param score  Score de la partie.
+     * @param niveau Niveau atteint.
+     * @return Rang du score dans la table, ou -1 s'il n'y entre pas.
+     */
+    public static int ajouterScore(int score, int niveau) {
+        int rang = highScores.ajouter(score, niveau);
+        if (rang >= 0) {
+            persistance.enregistrerJson(FICHIER_SCORES, highScores);
+        }
+        return rang;
+    }
 }
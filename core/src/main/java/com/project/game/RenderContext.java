@@ -0,0 +1,158 @@
+package com.project.game;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import com.project.game.platform.GpuInstancing;
+import com.project.game.render.InstancedSpriteRenderer;
+
+/**
+ * Contexte de rendu partagé par tous les états du jeu.
+ * Il est créé une seule fois par {@link Main} et regroupe le SpriteBatch, le ShapeRenderer, l'affichage instancié,
+ * la caméra et sa vue, ainsi que les polices : un changement d'état ne crée donc aucune ressource graphique.
+ * Les polices partagent la même texture ; leur couleur étant commune à tous les utilisateurs,
+ * chacun la règle avant de dessiner.
+ */
+public class RenderContext {
+
+    /**
+     * Taille du monde affiché (en pixels), indépendante de la taille de la fenêtre.
+     */
+    public static final float LARGEUR_MONDE = 1280, HAUTEUR_MONDE = 720;
+
+    /**
+     * SpriteBatch et ShapeRenderer utilisés par tous les états.
+     */
+    private final SpriteBatch batch;
+    private final ShapeRenderer formes;
+
+    /**
+     * Affichage des sprites par instances, pour les entités nombreuses.
+     */
+    private final InstancedSpriteRenderer sprites;
+
+    /**
+     * Caméra et vue qui adaptent le monde à la taille de la fenêtre.
+     */
+    private final OrthographicCamera camera;
+    private final Viewport vue;
+
+    /**
+     * Polices aux échelles 2, 3 et 5.
+     */
+    private final BitmapFont police, policeMoyenne, policeTitre;
+
+    /**
+     * Vecteur réutilisé pour convertir les coordonnées de l'écran vers le monde.
+     */
+    private final Vector2 point = new Vector2();
+
+    /**
+     * Crée le contexte de rendu et ses ressources graphiques.
+     *
+     * @param instancing Dessin instancié de la plateforme.
+     */
+    public RenderContext(GpuInstancing instancing) {
+        batch = new SpriteBatch();
+        formes = new ShapeRenderer();
+        sprites = new InstancedSpriteRenderer(instancing);
+        camera = new OrthographicCamera();
+        vue = new FitViewport(LARGEUR_MONDE, HAUTEUR_MONDE, camera);
+        vue.update((int) LARGEUR_MONDE, (int) HAUTEUR_MONDE, true);
+
+        police = new BitmapFont();
+        police.getData().setScale(2);
+        policeMoyenne = copierPolice(police, 3);
+        policeTitre = copierPolice(police, 5);
+    }
+
+    /**
+     * Crée une police partageant la texture d'une autre, à une autre échelle.
+     *
+     * @param modele  Police dont la texture est partagée.
+     * @param echelle Échelle de la nouvelle police.
+     * @return La nouvelle police, qui ne possède pas sa texture.
+     */
+    private static BitmapFont copierPolice(BitmapFont modele, float echelle) {
+        BitmapFont copie = new BitmapFont(new BitmapFont.BitmapFontData(modele.getData().fontFile, modele.getData().flipped),
+                modele.getRegions(), modele.usesIntegerPositions());
+        copie.getData().setScale(echelle);
+        return copie;
+    }
+
+    /**
+     * Applique la vue et met à jour les matrices de projection du SpriteBatch et du ShapeRenderer.
+     * Appelée au début de chaque image.
+     */
+    public void appliquer() {
+        vue.apply();
+        batch.setProjectionMatrix(camera.combined);
+        formes.setProjectionMatrix(camera.combined);
+    }
+
+    /**
+     * Adapte la vue à la nouvelle taille de la fenêtre.
+     *
+     * @param width  Nouvelle largeur de la fenêtre.
+     * @param height Nouvelle hauteur de la fenêtre.
+     */
+    public void resize(int width, int height) {
+        vue.update(width, height, true);
+    }
+
+    /**
+     * Convertit une position de l'écran (origine en haut à gauche) en position dans le monde.
+     * Le vecteur retourné est réutilisé à chaque appel.
+     *
+     * @param ecranX Position en x sur l'écran.
+     * @param ecranY Position en y sur l'écran.
+     * @return Position dans le monde.
+     */
+    public Vector2 versMonde(int ecranX, int ecranY) {
+        return vue.unproject(point.set(ecranX, ecranY));
+    }
+
+    public SpriteBatch getBatch() {
+        return batch;
+    }
+
+    public ShapeRenderer getFormes() {
+        return formes;
+    }
+
+    public InstancedSpriteRenderer getSprites() {
+        return sprites;
+    }
+
+    public OrthographicCamera getCamera() {
+        return camera;
+    }
+
+    public BitmapFont getPolice() {
+        return police;
+    }
+
+    public BitmapFont getPoliceMoyenne() {
+        return policeMoyenne;
+    }
+
+    public BitmapFont getPoliceTitre() {
+        return policeTitre;
+    }
+
+    /**
+     * Libère les ressources graphiques du contexte.
+     */
+    public void dispose() {
+        batch.dispose();
+        formes.dispose();
+        sprites.dispose();
+        policeMoyenne.dispose();
+        policeTitre.dispose();
+        police.dispose();
+    }
+}
@@ -0,0 +1,172 @@
+package com.project.game.asset;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.project.game.Main;
+
+import java.nio.IntBuffer;
+
+/**
+ * Arrière-plan statique de la partie.
+ * La carte Tiled est dessinée une seule fois dans un FrameBuffer, puis affichée à chaque image
+ * comme un simple quadrilatère texturé. Elle n'est redessinée qu'après {@link #invalider()}
+ * (redimensionnement, perte du contexte graphique) ou un changement de carte.
+ * La carte est empruntée au cache de textures : si elle a été préchargée, aucun décodage n'a lieu ici.
+ * L'image de secours n'est chargée que si la carte ne peut pas l'être.
+ */
+public class BackgroundLayer {
+
+    /**
+     * Chemin de l'image affichée si la carte Tiled est indisponible.
+     */
+    private final String cheminSecours;
+
+    /**
+     * Taille de l'arrière-plan (en pixels).
+     */
+    private final int largeur, hauteur;
+
+    /**
+     * Carte Tiled affichée, ou null si elle n'a pas pu être chargée, et son chemin.
+     */
+    private TiledMap carte;
+    private String cheminCarte;
+
+    /**
+     * FrameBuffer contenant la carte déjà dessinée.
+     */
+    private FrameBuffer frameBuffer;
+
+    /**
+     * Indique si le contenu du FrameBuffer correspond à la carte courante.
+     */
+    private boolean aJour;
+
+    /**
+     * Image de secours, empruntée au cache de textures à la première utilisation.
+     */
+    private Texture secours;
+
+    /**
+     * Projection du batch, sauvegardée pendant le dessin de la carte.
+     */
+    private final Matrix4 projection = new Matrix4();
+
+    /**
+     * Crée l'arrière-plan et emprunte la carte Tiled.
+     * Aucun dessin n'a lieu ici : la carte est dessinée lors du premier affichage.
+     *
+     * @param cheminCarte   Chemin interne de la carte Tiled.
+     * @param cheminSecours Chemin interne de l'image de secours.
+     * @param largeur       Largeur de l'arrière-plan (en pixels).
+     * @param hauteur       Hauteur de l'arrière-plan (en pixels).
+     */
+    public BackgroundLayer(String cheminCarte, String cheminSecours, int largeur, int hauteur) {
+        this.cheminSecours = cheminSecours;
+        this.largeur = largeur;
+        this.hauteur = hauteur;
+        setCarte(cheminCarte);
+    }
+
+    /**
+     * Remplace la carte affichée. L'arrière-plan sera redessiné au prochain affichage.
+     *
+     * @param cheminCarte Chemin interne de la nouvelle carte Tiled.
+     */
+    public void setCarte(String cheminCarte) {
+        if (carte != null) {
+            Main.getTextureCache().release(this.cheminCarte);
+            carte = null;
+        }
+        this.cheminCarte = cheminCarte;
+        try {
+            carte = Main.getTextureCache().acquire(cheminCarte, TiledMap.class);
+            Gdx.app.log("BackgroundLayer", "Carte Tiled chargée : " + cheminCarte);
+        } catch (Exception e) {
+            Gdx.app.error("BackgroundLayer", "Erreur de chargement de la carte Tiled : " + e.getMessage());
+        }
+        aJour = false;
+    }
+
+    /**
+     * Demande que la carte soit redessinée au prochain affichage.
+     */
+    public void invalider() {
+        aJour = false;
+    }
+
+    /**
+     * Affiche l'arrière-plan. Si la carte doit être redessinée, le dessin du batch est
+     * interrompu le temps de remplir le FrameBuffer, puis reprend.
+     *
+     * @param batch SpriteBatch utilisé pour le rendu.
+     */
+    public void render(SpriteBatch batch) {
+        if (carte == null) {
+            if (secours == null) {
+                secours = Main.getTextureCache().acquire(cheminSecours);
+            }
+            batch.draw(secours, 0, 0, largeur, hauteur);
+            return;
+        }
+
+        if (!aJour) {
+            boolean enCours = batch.isDrawing();
+            if (enCours) batch.end();
+            projection.set(batch.getProjectionMatrix());
+            dessinerCarte(batch);
+            batch.setProjectionMatrix(projection);
+            if (enCours) batch.begin();
+        }
+        batch.draw(frameBuffer.getColorBufferTexture(), 0, 0);
+    }
+
+    /**
+     * Dessine la carte dans le FrameBuffer, créé lors du premier appel.
+     * Le moteur de rendu de la carte utilise le batch partagé et n'est conservé que le temps de ce dessin ;
+     * la zone d'affichage de l'écran est rétablie ensuite.
+     *
+     * @param batch SpriteBatch partagé, qui ne doit pas être en cours de dessin.
+     */
+    private void dessinerCarte(SpriteBatch batch) {
+        if (frameBuffer == null) {
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, largeur, hauteur, false);
+        }
+
+        OrthographicCamera camera = new OrthographicCamera();
+        camera.setToOrtho(false, largeur, hauteur);  // Vue orthographique sans inversion verticale
+        OrthogonalTiledMapRenderer renderer = new OrthogonalTiledMapRenderer(carte, batch);
+        IntBuffer zone = BufferUtils.newIntBuffer(16);
+        Gdx.gl.glGetIntegerv(GL20.GL_VIEWPORT, zone);
+
+        frameBuffer.begin();
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        renderer.setView(camera);
+        renderer.render();
+        frameBuffer.end(zone.get(0), zone.get(1), zone.get(2), zone.get(3));
+
+        renderer.dispose();
+        aJour = true;
+    }
+
+    /**
+     * Rend la carte et l'image de secours au cache, et libère le FrameBuffer.
+     */
+    public void dispose() {
+        if (carte != null) Main.getTextureCache().release(cheminCarte);
+        if (frameBuffer != null) frameBuffer.dispose();
+        if (secours != null) Main.getTextureCache().release(cheminSecours);
+        carte = null;
+        frameBuffer = null;
+        secours = null;
+    }
+}
@@ -0,0 +1,106 @@
+package com.project.game.asset;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+
+/**
+ * Cache de textures, d'atlas et de cartes partagé, avec comptage de références.
+ * Les ressources sont conservées par l'{@link AssetManager} de l'application : une ressource préchargée
+ * en arrière-plan (voir {@link com.project.game.state.LoadingState}) est donc immédiatement disponible.
+ * Les utilisateurs empruntent la ressource via {@link #acquire(String, Class)} et la rendent via {@link #release(String)}.
+ * La ressource est libérée lorsque plus personne ne la référence, ou au plus tard lors de {@link #dispose()}.
+ */
+public class TextureCache {
+
+    /**
+     * Atlas regroupant les sprites de la partie (vaisseau, ennemis, projectiles, effets).
+     */
+    public static final String ATLAS_JEU = "atlas/game.atlas";
+
+    /**
+     * Atlas regroupant les boutons et fonds du menu et des paramètres.
+     */
+    public static final String ATLAS_MENU = "atlas/menu.atlas";
+
+    /**
+     * Gestionnaire qui charge et conserve les ressources.
+     */
+    private final AssetManager assets;
+
+    /**
+     * Crée un cache adossé au gestionnaire de ressources donné.
+     *
+     * @param assets Gestionnaire de ressources de l'application.
+     */
+    public TextureCache(AssetManager assets) {
+        this.assets = assets;
+    }
+
+    /**
+     * Emprunte la ressource associée au chemin donné.
+     * Si elle n'a pas été préchargée, elle est chargée immédiatement, ce qui bloque le fil de rendu.
+     *
+     * @param path Chemin interne de la ressource.
+     * @param type Type de la ressource.
+     * @return La ressource partagée.
+     */
+    public <T> T acquire(String path, Class<T> type) {
+        if (assets.isLoaded(path, type)) {
+            assets.setReferenceCount(path, assets.getReferenceCount(path) + 1);
+        } else {
+            assets.load(path, type);
+            assets.finishLoadingAsset(path);
+        }
+        return assets.get(path, type);
+    }
+
+    /**
+     * Emprunte la texture associée au chemin donné.
+     *
+     * @param path Chemin interne de la texture.
+     * @return La texture partagée.
+     */
+    public Texture acquire(String path) {
+        return acquire(path, Texture.class);
+    }
+
+    /**
+     * Emprunte l'atlas associé au chemin donné (fichier {@code .atlas} produit par la tâche Gradle {@code packTextures}).
+     *
+     * @param path Chemin interne du fichier atlas.
+     * @return L'atlas partagé.
+     */
+    public TextureAtlas acquireAtlas(String path) {
+        return acquire(path, TextureAtlas.class);
+    }
+
+    /**
+     * Rend une ressource précédemment empruntée.
+     * Lorsque le compteur tombe à zéro, la ressource est libérée du GPU.
+     *
+     * @param path Chemin interne de la ressource.
+     */
+    public void release(String path) {
+        if (assets.isLoaded(path)) {
+            assets.unload(path);
+        }
+    }
+
+    /**
+     * Retourne le nombre de références actives sur une ressource.
+     *
+     * @param path Chemin interne de la ressource.
+     * @return Nombre de références, 0 si la ressource n'est pas chargée.
+     */
+    public int getReferences(String path) {
+        return assets.isLoaded(path) ? assets.getReferenceCount(path) : 0;
+    }
+
+    /**
+     * Libère toutes les ressources du cache, quel que soit leur nombre de références.
+     */
+    public void dispose() {
+        assets.clear();
+    }
+}
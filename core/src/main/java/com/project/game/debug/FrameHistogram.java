@@ -0,0 +1,120 @@
+package com.project.game.debug;
+
+/**
+ * Histogramme glissant des durées d'image, à classes de largeur fixe.
+ * Seules les {@code fenetre} dernières mesures sont comptées : chaque nouvelle mesure remplace la plus ancienne
+ * dans un tampon circulaire et dans sa classe. Les percentiles se lisent en parcourant les classes,
+ * sans tri ni allocation.
+ */
+public class FrameHistogram {
+
+    /**
+     * Largeur d'une classe (en millisecondes).
+     */
+    private final float largeurClasse;
+
+    /**
+     * Nombre de mesures dans chaque classe ; la dernière reçoit toutes les mesures trop longues.
+     */
+    private final int[] classes;
+
+    /**
+     * Dernières mesures (en millisecondes), dans un tampon circulaire.
+     */
+    private final float[] mesures;
+
+    /**
+     * Prochaine case du tampon et nombre de mesures enregistrées.
+     */
+    private int prochaine, nombre;
+
+    /**
+     * Crée un histogramme.
+     *
+     * @param fenetre       Nombre de mesures conservées.
+     * @param largeurClasse Largeur d'une classe (en millisecondes).
+     * @param nombreClasses Nombre de classes.
+     */
+    public FrameHistogram(int fenetre, float largeurClasse, int nombreClasses) {
+        this.largeurClasse = largeurClasse;
+        this.classes = new int[nombreClasses];
+        this.mesures = new float[fenetre];
+    }
+
+    /**
+     * Ajoute une mesure, en retirant la plus ancienne si la fenêtre est pleine.
+     *
+     * @param ms Durée mesurée (en millisecondes).
+     */
+    public void ajouter(float ms) {
+        if (nombre == mesures.length) {
+            classes[classe(mesures[prochaine])]--;
+        } else {
+            nombre++;
+        }
+        mesures[prochaine] = ms;
+        classes[classe(ms)]++;
+        prochaine = (prochaine + 1) % mesures.length;
+    }
+
+    /**
+     * Retourne l'indice de la classe d'une mesure.
+     *
+     * @param ms Durée mesurée (en millisecondes).
+     * @return Indice de la classe.
+     */
+    private int classe(float ms) {
+        int i = (int) (ms / largeurClasse);
+        return Math.max(0, Math.min(i, classes.length - 1));
+    }
+
+    /**
+     * Retourne le percentile demandé, arrondi à la borne supérieure de sa classe.
+     *
+     * @param p Percentile, entre 0 et 1 (par exemple 0.99).
+     * @return Durée (en millisecondes), ou 0 sans mesure.
+     */
+    public float percentile(float p) {
+        if (nombre == 0) {
+            return 0;
+        }
+        int rang = (int) Math.ceil(p * nombre);
+        int cumul = 0;
+        for (int i = 0; i < classes.length; i++) {
+            cumul += classes[i];
+            if (cumul >= rang) {
+                return (i + 1) * largeurClasse;
+            }
+        }
+        return classes.length * largeurClasse;
+    }
+
+    /**
+     * Retourne la plus longue mesure de la fenêtre.
+     *
+     * @return Durée maximale (en millisecondes).
+     */
+    public float max() {
+        float max = 0;
+        for (int i = 0; i < nombre; i++) {
+            max = Math.max(max, mesures[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Retourne la moyenne des mesures de la fenêtre.
+     *
+     * @return Durée moyenne (en millisecondes).
+     */
+    public float moyenne() {
+        if (nombre == 0) {
+            return 0;
+        }
+        float somme = 0;
+        for (int i = 0; i < nombre; i++) {
+            somme += mesures[i];
+        }
+        return somme / nombre;
+    }
+}
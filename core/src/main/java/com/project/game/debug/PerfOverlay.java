@@ -0,0 +1,231 @@
+package com.project.game.debug;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.project.game.HudText;
+import com.project.game.RenderContext;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Affichage des performances, activé et désactivé par {@link com.project.game.state.ManagerState} (touche F3).
+ * Les durées de mise à jour, de rendu et d'image sont mesurées en continu ; l'affichage présente leurs moyennes,
+ * les percentiles p50/p99 et le maximum des durées d'image, les entités de l'état actif, les appels de rendu
+ * du SpriteBatch, la mémoire utilisée et les passages du ramasse-miettes.
+ * Les textes ne sont recalculés que quatre fois par seconde, et rien n'est alloué pendant le fonctionnement.
+ */
+public class PerfOverlay {
+
+    /**
+     * Nombre d'images prises en compte (10 secondes à 60 images par seconde).
+     */
+    private static final int FENETRE = 600;
+
+    /**
+     * Intervalle entre deux rafraîchissements des textes (en secondes).
+     */
+    private static final float INTERVALLE_TEXTES = 0.25f;
+
+    /**
+     * Position du coin haut gauche de l'affichage et écart entre deux lignes (en pixels).
+     */
+    private static final float X = 860, Y = 710, INTERLIGNE = 30;
+
+    /**
+     * Histogrammes des durées d'image, de mise à jour et de rendu (en millisecondes).
+     */
+    private final FrameHistogram images = new FrameHistogram(FENETRE, 0.25f, 400);
+    private final FrameHistogram majs = new FrameHistogram(FENETRE, 0.05f, 400);
+    private final FrameHistogram rendus = new FrameHistogram(FENETRE, 0.05f, 400);
+
+    /**
+     * Instants (en nanosecondes) du début de l'image, de la mise à jour et du rendu en cours.
+     */
+    private long debutImage, debutMaj, debutRendu;
+
+    /**
+     * Appels de rendu du SpriteBatch : total au début de l'image, et nombre faits par l'état actif pendant l'image.
+     */
+    private int totalAppels, appelsRendu;
+
+    /**
+     * Nombre d'ennemis et de projectiles de l'état actif, ou -1 si l'état n'en a pas.
+     */
+    private int ennemis = -1, projectiles = -1;
+
+    /**
+     * Ramasse-miettes de la machine virtuelle, récupérés une seule fois.
+     */
+    private final List<GarbageCollectorMXBean> collecteurs = ManagementFactory.getGarbageCollectorMXBeans();
+
+    /**
+     * Indique si l'affichage est visible.
+     */
+    private boolean actif;
+
+    /**
+     * Temps écoulé depuis le dernier rafraîchissement des textes (en secondes).
+     */
+    private float depuisTextes = INTERVALLE_TEXTES;
+
+    /**
+     * Contexte de rendu partagé.
+     */
+    private final RenderContext contexte;
+
+    /**
+     * Lignes de l'affichage.
+     */
+    private final HudText fps, maj, rendu, p50, p99, max, texteEnnemis, texteProjectiles, appels, memoire, gc, gcTemps;
+
+    /**
+     * Crée l'affichage des performances, masqué.
+     *
+     * @param contexte Contexte de rendu partagé.
+     */
+    public PerfOverlay(RenderContext contexte) {
+        this.contexte = contexte;
+        BitmapFont police = contexte.getPolice();
+        fps = new HudText(police, Color.YELLOW, "FPS: ");
+        maj = new HudText(police, Color.YELLOW, "Update (us): ");
+        rendu = new HudText(police, Color.YELLOW, "Render (us): ");
+        p50 = new HudText(police, Color.YELLOW, "Frame p50 (ms): ");
+        p99 = new HudText(police, Color.YELLOW, "Frame p99 (ms): ");
+        max = new HudText(police, Color.YELLOW, "Frame max (ms): ");
+        texteEnnemis = new HudText(police, Color.YELLOW, "Enemies: ");
+        texteProjectiles = new HudText(police, Color.YELLOW, "Projectiles: ");
+        appels = new HudText(police, Color.YELLOW, "Render calls: ");
+        memoire = new HudText(police, Color.YELLOW, "Heap (MB): ");
+        gc = new HudText(police, Color.YELLOW, "GC count: ");
+        gcTemps = new HudText(police, Color.YELLOW, "GC time (ms): ");
+    }
+
+    /**
+     * Affiche ou masque l'affichage.
+     */
+    public void basculer() {
+        actif = !actif;
+    }
+
+    public boolean isActif() {
+        return actif;
+    }
+
+    /**
+     * Marque le début d'une image et de sa mise à jour, et enregistre la durée de l'image précédente.
+     */
+    public void debutImage() {
+        long maintenant = System.nanoTime();
+        if (debutImage != 0) {
+            images.ajouter((maintenant - debutImage) / 1e6f);
+        }
+        debutImage = maintenant;
+        debutMaj = maintenant;
+        totalAppels = contexte.getBatch().totalRenderCalls;
+    }
+
+    /**
+     * Marque la fin de la mise à jour de l'image.
+     */
+    public void finMaj() {
+        majs.ajouter((System.nanoTime() - debutMaj) / 1e6f);
+    }
+
+    /**
+     * Marque le début du rendu de l'image.
+     */
+    public void debutRendu() {
+        debutRendu = System.nanoTime();
+    }
+
+    /**
+     * Marque la fin du rendu de l'image.
+     */
+    public void finRendu() {
+        rendus.ajouter((System.nanoTime() - debutRendu) / 1e6f);
+    }
+
+    /**
+     * Renseigne le nombre d'entités de l'état actif. Remis à zéro à chaque image.
+     *
+     * @param ennemis     Nombre d'ennemis.
+     * @param projectiles Nombre de projectiles.
+     */
+    public void setEntites(int ennemis, int projectiles) {
+        this.ennemis = ennemis;
+        this.projectiles = projectiles;
+    }
+
+    /**
+     * Oublie le nombre d'entités, pour les états qui n'en ont pas.
+     */
+    public void effacerEntites() {
+        ennemis = -1;
+        projectiles = -1;
+    }
+
+    /**
+     * Dessine l'affichage, en recalculant les textes si leur intervalle est écoulé.
+     * Appelée après le rendu de l'état actif : ses propres appels de rendu ne sont pas comptés.
+     *
+     * @param delta Temps écoulé depuis la dernière image (en secondes).
+     */
+    public void render(float delta) {
+        SpriteBatch batch = contexte.getBatch();
+        appelsRendu = batch.totalRenderCalls - totalAppels;
+        depuisTextes += delta;
+        if (depuisTextes >= INTERVALLE_TEXTES) {
+            depuisTextes = 0;
+            mettreAJourTextes();
+        }
+
+        batch.begin();
+        float y = Y;
+        fps.draw(batch, X, y);
+        maj.draw(batch, X, y -= INTERLIGNE);
+        rendu.draw(batch, X, y -= INTERLIGNE);
+        p50.draw(batch, X, y -= INTERLIGNE);
+        p99.draw(batch, X, y -= INTERLIGNE);
+        max.draw(batch, X, y -= INTERLIGNE);
+        if (ennemis >= 0) {
+            texteEnnemis.draw(batch, X, y -= INTERLIGNE);
+            texteProjectiles.draw(batch, X, y -= INTERLIGNE);
+        }
+        appels.draw(batch, X, y -= INTERLIGNE);
+        memoire.draw(batch, X, y -= INTERLIGNE);
+        gc.draw(batch, X, y -= INTERLIGNE);
+        gcTemps.draw(batch, X, y - INTERLIGNE);
+        batch.end();
+    }
+
+    /**
+     * Recalcule les valeurs affichées.
+     */
+    private void mettreAJourTextes() {
+        float moyenneImage = images.moyenne();
+        fps.setValeur(moyenneImage > 0 ? Math.round(1000 / moyenneImage) : 0);
+        maj.setValeur(Math.round(majs.moyenne() * 1000));
+        rendu.setValeur(Math.round(rendus.moyenne() * 1000));
+        p50.setDixiemes(images.percentile(0.5f));
+        p99.setDixiemes(images.percentile(0.99f));
+        max.setDixiemes(images.max());
+        texteEnnemis.setValeur(ennemis);
+        texteProjectiles.setValeur(projectiles);
+        appels.setValeur(appelsRendu);
+
+        Runtime runtime = Runtime.getRuntime();
+        memoire.setValeur((int) ((runtime.totalMemory() - runtime.freeMemory()) >> 20));
+
+        long nombre = 0, temps = 0;
+        for (int i = 0, n = collecteurs.size(); i < n; i++) {
+            GarbageCollectorMXBean collecteur = collecteurs.get(i);
+            nombre += Math.max(0, collecteur.getCollectionCount());
+            temps += Math.max(0, collecteur.getCollectionTime());
+        }
+        gc.setValeur((int) nombre);
+        gcTemps.setValeur((int) temps);
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.game.debug;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.util.List;
+
+/**
+ * Mesure des étapes du démarrage, comptées depuis le lancement de la machine virtuelle :
+ * entrée dans le lanceur, création de {@link com.project.game.Main}, première image affichée,
+ * première image du menu et première image de la partie.
+ * Chaque étape n'est mesurée qu'à son premier passage et affichée sur la sortie standard ;
+ * la première image affiche en plus le temps total jusqu'à l'écran et l'archive CDS demandée au lancement.
+ */
+public final class StartupTimer {
+
+    /**
+     * Étapes du démarrage.
+     */
+    public static final int LANCEUR = 0, CREATION = 1, PREMIERE_IMAGE = 2, PREMIER_MENU = 3, PREMIERE_PARTIE = 4;
+
+    /**
+     * Noms affichés des étapes, dans l'ordre de leurs indices.
+     */
+    private static final String[] NOMS = {
+            "lanceur", "Main.create", "première image", "première image du menu", "première image de la partie"
+    };
+
+    /**
+     * Instant de chaque étape (en millisecondes depuis le lancement de la machine virtuelle), ou -1.
+     */
+    private static final long[] instants = {-1, -1, -1, -1, -1};
+
+    /**
+     * Instant de la dernière étape mesurée, pour afficher la durée de chaque étape.
+     */
+    private static long derniere;
+
+    private StartupTimer() {
+    }
+
+    /**
+     * Mesure une étape si elle ne l'a pas encore été. Ne coûte qu'une comparaison les fois suivantes.
+     *
+     * @param etape Étape atteinte ({@link #LANCEUR}, {@link #CREATION}, ...).
+     */
+    public static void marquer(int etape) {
+        if (instants[etape] >= 0) {
+            return;
+        }
+        long instant = ManagementFactory.getRuntimeMXBean().getUptime();
+        instants[etape] = instant;
+        System.out.println("Démarrage : " + NOMS[etape] + " à " + instant + " ms (+" + (instant - derniere) + " ms)");
+        derniere = instant;
+        if (etape == PREMIERE_IMAGE) {
+            System.out.println("Temps jusqu'à la première image : " + instant + " ms, " + decrireArchive());
+        }
+    }
+
+    /**
+     * Indique si une étape a déjà été atteinte.
+     *
+     * @param etape Étape du démarrage.
+     * @return Vrai si l'étape a été mesurée.
+     */
+    public static boolean estAtteinte(int etape) {
+        return instants[etape] >= 0;
+    }
+
+    /**
+     * Décrit l'archive de partage des classes (AppCDS) passée à la machine virtuelle.
+     * Une archive qui ne correspond plus au jar (jar reconstruit ou déplacé) est ignorée par la machine virtuelle :
+     * l'archive affichée est celle qui a été demandée, pas forcément celle qui a été utilisée.
+     *
+     * @return Texte à afficher.
+     */
+    private static String decrireArchive() {
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        List<String> arguments = runtime.getInputArguments();
+        for (int i = 0, n = arguments.size(); i < n; i++) {
+            String argument = arguments.get(i);
+            if (argument.startsWith("-XX:SharedArchiveFile=")) {
+                return "archive CDS demandée : " + argument.substring("-XX:SharedArchiveFile=".length());
+            }
+            if (argument.startsWith("-XX:ArchiveClassesAtExit=")) {
+                return "lancement d'entraînement de l'archive CDS";
+            }
+        }
+        return "sans archive CDS";
+    }
+}
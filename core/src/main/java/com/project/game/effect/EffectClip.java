@@ -0,0 +1,66 @@
+package com.project.game.effect;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.project.game.render.SpriteInstances;
+
+/**
+ * Animation d'un effet : suite d'images découpées dans une planche, jouée une fois sur une durée fixe.
+ * La taille de l'effet passe d'une échelle de départ à une échelle d'arrivée, et il s'efface sur sa fin ;
+ * une planche d'une seule image est ainsi animée elle aussi.
+ */
+public class EffectClip {
+
+    /**
+     * Images de l'animation, dans l'ordre.
+     */
+    private final TextureRegion[] images;
+
+    /**
+     * Durée de l'animation (en secondes).
+     */
+    private final float duree;
+
+    /**
+     * Échelles de l'image au début et à la fin de l'animation.
+     */
+    private final float echelleDebut, echelleFin;
+
+    /**
+     * Crée une animation à partir d'une planche d'images de même largeur, rangées de gauche à droite.
+     *
+     * @param planche      Planche des images.
+     * @param nombre       Nombre d'images dans la planche.
+     * @param duree        Durée de l'animation (en secondes).
+     * @param echelleDebut Échelle au début de l'animation.
+     * @param echelleFin   Échelle à la fin de l'animation.
+     */
+    public EffectClip(TextureRegion planche, int nombre, float duree, float echelleDebut, float echelleFin) {
+        int largeur = planche.getRegionWidth() / nombre;
+        images = planche.split(largeur, planche.getRegionHeight())[0];
+        this.duree = duree;
+        this.echelleDebut = echelleDebut;
+        this.echelleFin = echelleFin;
+    }
+
+    /**
+     * Ajoute l'image courante de l'animation à la liste des sprites, centrée sur la position donnée.
+     *
+     * @param sprites Sprites de l'image.
+     * @param x       Centre de l'effet en x.
+     * @param y       Centre de l'effet en y.
+     * @param temps   Temps écoulé depuis le début de l'effet (en secondes).
+     */
+    public void ajouterSprite(SpriteInstances sprites, float x, float y, float temps) {
+        float avancement = Math.min(temps / duree, 1);
+        TextureRegion image = images[Math.min((int) (avancement * images.length), images.length - 1)];
+        float echelle = echelleDebut + (echelleFin - echelleDebut) * avancement;
+        float largeur = image.getRegionWidth() * echelle, hauteur = image.getRegionHeight() * echelle;
+        float opacite = 1 - avancement * avancement;
+        sprites.ajouter(image, x - largeur / 2, y - hauteur / 2, largeur, hauteur, Color.toFloatBits(1f, 1f, 1f, opacite));
+    }
+
+    public float getDuree() {
+        return duree;
+    }
+}
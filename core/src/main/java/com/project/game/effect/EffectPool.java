@@ -0,0 +1,117 @@
+package com.project.game.effect;
+
+import com.project.game.platform.EffectSink;
+import com.project.game.render.SpriteInstances;
+
+/**
+ * Effets visuels en cours (explosions et éclairs de tir), détachés des entités de la simulation.
+ * Les effets sont rangés dans des tableaux parallèles de capacité fixe, comme les entités : une explosion
+ * ou un tir ne crée aucun objet, et un effet terminé libère sa place pour le suivant. Lorsque tout est occupé,
+ * le nouvel effet est ignoré. Les effets avancent au rythme de l'affichage, indépendamment des pas de simulation.
+ */
+public class EffectPool implements EffectSink {
+
+    /**
+     * Types d'effets, indices dans {@link #animations}.
+     */
+    private static final byte EXPLOSION = 0, TIR = 1;
+
+    /**
+     * Animation de chaque type d'effet.
+     */
+    private final EffectClip[] animations;
+
+    /**
+     * Centre, temps écoulé et type de chaque effet en cours.
+     */
+    private final float[] x, y, temps;
+    private final byte[] type;
+
+    /**
+     * Nombre d'effets en cours, rangés aux indices 0 à size - 1.
+     */
+    private int size;
+
+    /**
+     * Crée un ensemble d'effets vide.
+     *
+     * @param explosion Animation de l'explosion d'un ennemi.
+     * @param tir       Animation de l'éclair d'un tir.
+     * @param capacite  Nombre maximal d'effets simultanés.
+     */
+    public EffectPool(EffectClip explosion, EffectClip tir, int capacite) {
+        animations = new EffectClip[] {explosion, tir};
+        x = new float[capacite];
+        y = new float[capacite];
+        temps = new float[capacite];
+        type = new byte[capacite];
+    }
+
+    @Override
+    public void explosion(float x, float y) {
+        ajouter(EXPLOSION, x, y);
+    }
+
+    @Override
+    public void tir(float x, float y) {
+        ajouter(TIR, x, y);
+    }
+
+    /**
+     * Démarre un effet, s'il reste de la place.
+     */
+    private void ajouter(byte type, float x, float y) {
+        if (size == this.x.length) {
+            return;
+        }
+        int i = size++;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.temps[i] = 0;
+        this.type[i] = type;
+    }
+
+    /**
+     * Fait avancer les effets et retire ceux qui sont terminés.
+     *
+     * @param delta Temps écoulé depuis la dernière image (en secondes).
+     */
+    public void update(float delta) {
+        for (int i = size - 1; i >= 0; i--) {
+            temps[i] += delta;
+            if (temps[i] >= animations[type[i]].getDuree()) {
+                int dernier = --size;
+                x[i] = x[dernier];
+                y[i] = y[dernier];
+                temps[i] = temps[dernier];
+                type[i] = type[dernier];
+            }
+        }
+    }
+
+    /**
+     * Ajoute l'image courante de chaque effet à la liste des sprites.
+     *
+     * @param sprites Sprites de l'image.
+     */
+    public void ajouterSprites(SpriteInstances sprites) {
+        for (int i = 0; i < size; i++) {
+            animations[type[i]].ajouterSprite(sprites, x[i], y[i], temps[i]);
+        }
+    }
+
+    /**
+     * Retire tous les effets.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCapacite() {
+        return x.length;
+    }
+}
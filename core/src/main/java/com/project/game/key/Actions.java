@@ -0,0 +1,22 @@
+package com.project.game.key;
+
+/**
+ * Actions du joueur, chacune représentée par un bit.
+ * À chaque pas de simulation, les actions en cours forment un masque lu une seule fois par {@link com.project.game.play.Play} ;
+ * c'est aussi ce masque qui est enregistré et rejoué (voir {@link com.project.game.replay.Recording}).
+ */
+public final class Actions {
+
+    /**
+     * Bits des actions.
+     */
+    public static final int GAUCHE = 1, DROITE = 1 << 1, HAUT = 1 << 2, BAS = 1 << 3, TIR = 1 << 4;
+
+    /**
+     * Nombre d'actions : l'action d'indice i correspond au bit {@code 1 << i}.
+     */
+    public static final int NOMBRE = 5;
+
+    private Actions() {
+    }
+}
@@ -0,0 +1,56 @@
+package com.project.game.key;
+
+import com.badlogic.gdx.Input;
+
+/**
+ * Touches associées aux actions du joueur, telles qu'elles sont enregistrées dans le fichier JSON des touches
+ * (lu et écrit avec Gson). Les touches sont désignées par leur nom ({@link Input.Keys#toString(int)}),
+ * pour que le fichier reste lisible et modifiable à la main.
+ */
+public class KeyBindings {
+
+    /**
+     * Noms des touches de chaque action, avec leurs valeurs par défaut.
+     */
+    private String gauche = "Left";
+    private String droite = "Right";
+    private String haut = "Up";
+    private String bas = "Down";
+    private String tir = "Space";
+
+    /**
+     * Retourne le code de la touche associée à une action.
+     *
+     * @param action Indice de l'action (voir {@link Actions#NOMBRE}).
+     * @return Code de la touche, ou {@link Input.Keys#UNKNOWN} si le nom est inconnu.
+     */
+    public int getTouche(int action) {
+        String nom;
+        switch (action) {
+            case 0: nom = gauche; break;
+            case 1: nom = droite; break;
+            case 2: nom = haut; break;
+            case 3: nom = bas; break;
+            default: nom = tir; break;
+        }
+        int touche = nom != null ? Input.Keys.valueOf(nom) : -1;
+        return touche < 0 ? Input.Keys.UNKNOWN : touche;
+    }
+
+    /**
+     * Associe une touche à une action.
+     *
+     * @param action  Indice de l'action.
+     * @param keycode Code de la nouvelle touche.
+     */
+    public void setTouche(int action, int keycode) {
+        String nom = Input.Keys.toString(keycode);
+        switch (action) {
+            case 0: gauche = nom; break;
+            case 1: droite = nom; break;
+            case 2: haut = nom; break;
+            case 3: bas = nom; break;
+            default: tir = nom; break;
+        }
+    }
+}
@@ -2,115 +2,212 @@ package com.project.game.key;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.project.game.platform.InputSource;
+import com.project.game.save.PersistenceService;
+
+import java.util.Arrays;
 
 /**
- * La classe {@code KeyManager} gère les touches de contrôle du joueur pour déplacer un personnage à l'écran.
- * Elle permet de définir les touches par défaut, de récupérer les noms des touches actuelles et de calculer
- * les déplacements horizontaux et verticaux en fonction des touches appuyées.
+ * La classe {@code KeyManager} associe les touches du clavier aux actions du joueur ({@link Actions}).
+ * Elle reçoit les événements clavier (c'est l'{@link com.badlogic.gdx.InputProcessor} de l'application)
+ * et tient à jour le masque des actions enfoncées ; la simulation en lit un instantané par pas,
+ * sans interroger le clavier. Une touche enfoncée puis relâchée entre deux pas compte pour le pas suivant.
+ * Les touches sont lues dans un fichier JSON, et peuvent être changées depuis les paramètres ;
+ * elles sont alors sauvegardées en arrière-plan par le {@link PersistenceService}.
  */
-public class KeyManager {
+public class KeyManager extends InputAdapter implements InputSource {
+
+    /**
+     * Fichier local des touches choisies par le joueur, prioritaire sur le fichier interne.
+     */
+    private static final String FICHIER_LOCAL = "save/keys.json";
+
+    /**
+     * Chemin du fichier interne des touches par défaut.
+     */
+    private final String filePath;
+
+    /**
+     * Service qui lit et écrit le fichier local des touches.
+     */
+    private final PersistenceService persistance;
+
+    /**
+     * Touches associées aux actions, telles qu'elles sont sauvegardées.
+     */
+    private KeyBindings bindings;
 
-    private static int left = Input.Keys.LEFT;
-    private static int right = Input.Keys.RIGHT;
-    private static int up = Input.Keys.UP;
-    private static int down = Input.Keys.DOWN; // Codes des touches
+    /**
+     * Code de la touche de chaque action, et masque des actions de chaque touche.
+     */
+    private final int[] toucheParAction = new int[Actions.NOMBRE];
+    private final int[] actionsParTouche = new int[Input.Keys.MAX_KEYCODE + 1];
+
+    /**
+     * Actions actuellement enfoncées, et actions enfoncées depuis le dernier pas (même relâchées depuis).
+     */
+    private int enfoncees, appuyees;
+
+    /**
+     * Actions du pas de simulation en cours.
+     */
+    private int actions;
+
+    /**
+     * Indice de l'action en attente d'une nouvelle touche, ou -1.
+     */
+    private int actionEnAttente = -1;
 
     /**
      * Constructeur de la classe {@code KeyManager}.
-     * Initialise les touches de contrôle avec les valeurs par défaut.
+     * Lit les touches sauvegardées par le joueur, ou à défaut celles du fichier donné ;
+     * les touches par défaut sont utilisées si aucun fichier n'est lisible.
      *
-     * @param filePath Chemin du fichier de configuration des touches (non utilisé dans cette version).
+     * @param filePath    Chemin interne du fichier des touches par défaut.
+     * @param persistance Service de sauvegarde des fichiers locaux.
      */
-    public KeyManager(String filePath) {
-        setDefaultKeys();
+    public KeyManager(String filePath, PersistenceService persistance) {
+        this.filePath = filePath;
+        this.persistance = persistance;
+        bindings = charger();
+        appliquer();
+        Gdx.app.debug("KeyManager", "Touches : gauche " + getNomTouche(Actions.GAUCHE)
+                + ", droite " + getNomTouche(Actions.DROITE) + ", haut " + getNomTouche(Actions.HAUT)
+                + ", bas " + getNomTouche(Actions.BAS) + ", tir " + getNomTouche(Actions.TIR));
     }
 
     /**
-     * Initialise les touches de contrôle avec les valeurs par défaut.
-     * Les touches par défaut sont : Flèche gauche, Flèche droite, Flèche haut, Flèche bas.
+     * Lit le fichier local des touches, ou à défaut le fichier interne livré avec le jeu.
+     *
+     * @return Les touches lues, ou les touches par défaut.
      */
-    private void setDefaultKeys() {
-        left = Input.Keys.LEFT;
-        right = Input.Keys.RIGHT;
-        up = Input.Keys.UP;
-        down = Input.Keys.DOWN;
-
-        System.out.println("Touches par défaut initialisées :");
-        System.out.println("Left: " + Input.Keys.toString(left));
-        System.out.println("Right: " + Input.Keys.toString(right));
-        System.out.println("Up: " + Input.Keys.toString(up));
-        System.out.println("Down: " + Input.Keys.toString(down));
+    private KeyBindings charger() {
+        KeyBindings lues = persistance.lireJson(FICHIER_LOCAL, KeyBindings.class);
+        if (lues != null) {
+            return lues;
+        }
+        FileHandle fichier = Gdx.files.internal(filePath);
+        try {
+            lues = new Gson().fromJson(fichier.readString("UTF-8"), KeyBindings.class);
+        } catch (JsonParseException | GdxRuntimeException e) {
+            Gdx.app.error("KeyManager", "Erreur de lecture des touches : " + e.getMessage());
+        }
+        return lues != null ? lues : new KeyBindings();
     }
 
     /**
-     * Récupère le nom de la touche associée à la direction "haut".
-     *
-     * @return Le nom de la touche "haut".
+     * Recalcule les tables de correspondance à partir des touches.
      */
-    public static String getUpKeyName() {
-        return Input.Keys.toString(up);
+    private void appliquer() {
+        Arrays.fill(actionsParTouche, 0);
+        for (int action = 0; action < Actions.NOMBRE; action++) {
+            int touche = bindings.getTouche(action);
+            toucheParAction[action] = touche;
+            if (touche != Input.Keys.UNKNOWN) {
+                actionsParTouche[touche] |= 1 << action;
+            }
+        }
+        relacher();
     }
 
     /**
-     * Récupère le nom de la touche associée à la direction "bas".
-     *
-     * @return Le nom de la touche "bas".
+     * Sauvegarde les touches dans le fichier local, en arrière-plan.
      */
-    public static String getDownKeyName() {
-        return Input.Keys.toString(down);
+    public void sauvegarder() {
+        persistance.enregistrerJson(FICHIER_LOCAL, bindings);
     }
 
     /**
-     * Récupère le nom de la touche associée à la direction "gauche".
+     * Attend la prochaine touche enfoncée pour l'associer à une action, puis sauvegarde les touches.
+     * La touche Échap annule l'attente.
      *
-     * @return Le nom de la touche "gauche".
+     * @param action Action à modifier (un bit de {@link Actions}).
      */
-    public static String getLeftKeyName() {
-        return Input.Keys.toString(left);
+    public void attendreTouche(int action) {
+        actionEnAttente = Integer.numberOfTrailingZeros(action);
     }
 
     /**
-     * Récupère le nom de la touche associée à la direction "droite".
-     *
-     * @return Le nom de la touche "droite".
+     * Annule l'attente d'une nouvelle touche.
      */
-    public static String getRightKeyName() {
-        return Input.Keys.toString(right);
+    public void annulerAttente() {
+        actionEnAttente = -1;
     }
 
     /**
-     * Met à jour la position horizontale du joueur en fonction des touches de déplacement.
+     * Retourne l'action qui attend sa nouvelle touche.
      *
-     * @param x       Position actuelle sur l'axe X.
-     * @param vitesse Vitesse de déplacement.
-     * @param delta   Temps écoulé depuis le dernier appel (pour une mise à jour basée sur le temps).
-     * @return La nouvelle position sur l'axe X après application du mouvement.
-     */
-    public float mouv_abs(float x, float vitesse, float delta) {
-        if (Gdx.input.isKeyPressed(left) && left != Input.Keys.UNKNOWN) {
-            x -= vitesse * delta;
+     * @return Bit de l'action, ou 0 si aucune action n'attend.
+     */
+    public int getActionEnAttente() {
+        return actionEnAttente >= 0 ? 1 << actionEnAttente : 0;
+    }
+
+    @Override
+    public boolean keyDown(int keycode) {
+        if (actionEnAttente >= 0) {
+            if (keycode != Input.Keys.ESCAPE) {
+                bindings.setTouche(actionEnAttente, keycode);
+                appliquer();
+                sauvegarder();
+            }
+            actionEnAttente = -1;
+            return true;
+        }
+        if (keycode < 0 || keycode >= actionsParTouche.length) {
+            return false;
         }
-        if (Gdx.input.isKeyPressed(right) && right != Input.Keys.UNKNOWN) {
-            x += vitesse * delta;
+        int masque = actionsParTouche[keycode];
+        enfoncees |= masque;
+        appuyees |= masque;
+        return masque != 0;
+    }
+
+    @Override
+    public boolean keyUp(int keycode) {
+        if (keycode < 0 || keycode >= actionsParTouche.length) {
+            return false;
         }
-        return x;
+        int masque = actionsParTouche[keycode];
+        enfoncees &= ~masque;
+        return masque != 0;
     }
 
     /**
-     * Met à jour la position verticale du joueur en fonction des touches de déplacement.
+     * Relâche toutes les actions, par exemple lorsque la fenêtre perd le focus et ne reçoit plus les relâchements.
+     */
+    public void relacher() {
+        enfoncees = 0;
+        appuyees = 0;
+        actions = 0;
+    }
+
+    /**
+     * Prend l'instantané des actions du pas qui commence.
+     */
+    @Override
+    public void nouveauPas() {
+        actions = enfoncees | appuyees;
+        appuyees = 0;
+    }
+
+    @Override
+    public int getActions() {
+        return actions;
+    }
+
+    /**
+     * Récupère le nom de la touche associée à une action.
      *
-     * @param y       Position actuelle sur l'axe Y.
-     * @param vitesse Vitesse de déplacement.
-     * @param delta   Temps écoulé depuis le dernier appel (pour une mise à jour basée sur le temps).
-     * @return La nouvelle position sur l'axe Y après application du mouvement.
-     */
-    public float mouv_ord(float y, float vitesse, float delta) {
-        if (Gdx.input.isKeyPressed(up) && up != Input.Keys.UNKNOWN) {
-            y += vitesse * delta;
-        }
-        if (Gdx.input.isKeyPressed(down) && down != Input.Keys.UNKNOWN) {
-            y -= vitesse * delta;
-        }
-        return y;
+     * @param action Action (un bit de {@link Actions}).
+     * @return Le nom de la touche.
+     */
+    public String getNomTouche(int action) {
+        return Input.Keys.toString(toucheParAction[Integer.numberOfTrailingZeros(action)]);
     }
 }
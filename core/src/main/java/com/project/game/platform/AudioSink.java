@@ -0,0 +1,19 @@
+package com.project.game.platform;
+
+/**
+ * Sortie audio utilisée par la simulation pour jouer ses effets sonores.
+ */
+public interface AudioSink {
+
+    /**
+     * Sortie audio muette, pour faire tourner la simulation sans carte son.
+     */
+    AudioSink SILENCE = son -> { };
+
+    /**
+     * Joue un effet sonore.
+     *
+     * @param son Chemin interne du fichier son.
+     */
+    void jouer(String son);
+}
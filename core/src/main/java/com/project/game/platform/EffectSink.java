@@ -0,0 +1,31 @@
+package com.project.game.platform;
+
+/**
+ * Sortie des effets visuels demandés par la simulation (explosions, éclairs de tir).
+ * Les effets n'ont aucune influence sur la simulation : elle les signale et les oublie aussitôt.
+ */
+public interface EffectSink {
+
+    /**
+     * Aucun effet, pour faire tourner la simulation sans affichage.
+     */
+    EffectSink AUCUN = new EffectSink() { };
+
+    /**
+     * Signale la destruction d'un ennemi.
+     *
+     * @param x Centre de l'explosion en x.
+     * @param y Centre de l'explosion en y.
+     */
+    default void explosion(float x, float y) {
+    }
+
+    /**
+     * Signale un tir du vaisseau.
+     *
+     * @param x Position en x de la bouche du canon.
+     * @param y Position en y de la bouche du canon.
+     */
+    default void tir(float x, float y) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.game.platform;
+
+/**
+ * Dimensions du monde fixées à la construction.
+ * Utilisée lorsque la simulation tourne sans fenêtre.
+ */
+public class FixedWorldBounds implements WorldBounds {
+
+    /**
+     * Dimensions du monde (en pixels).
+     */
+    private final float largeur, hauteur;
+
+    /**
+     * Crée des dimensions fixes.
+     *
+     * @param largeur Largeur du monde.
+     * @param hauteur Hauteur du monde.
+     */
+    public FixedWorldBounds(float largeur, float hauteur) {
+        this.largeur = largeur;
+        this.hauteur = hauteur;
+    }
+
+    @Override
+    public float getLargeur() {
+        return largeur;
+    }
+
+    @Override
+    public float getHauteur() {
+        return hauteur;
+    }
+}
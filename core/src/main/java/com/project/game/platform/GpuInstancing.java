@@ -0,0 +1,53 @@
+package com.project.game.platform;
+
+/**
+ * Appels OpenGL de dessin instancié, absents de l'interface GL20 de libGDX et fournis par le lanceur.
+ * Le contexte graphique reste celui de libGDX : seuls le diviseur des attributs et le dessin instancié
+ * sont délégués à la plateforme.
+ */
+public interface GpuInstancing {
+
+    /**
+     * Absence de dessin instancié : l'affichage se rabat sur le SpriteBatch, et les appels sont sans effet.
+     */
+    GpuInstancing AUCUN = new GpuInstancing() {
+        @Override
+        public boolean isDisponible() {
+            return false;
+        }
+
+        @Override
+        public void setDiviseur(int attribut, int diviseur) {
+        }
+
+        @Override
+        public void dessiner(int mode, int premier, int nombreSommets, int instances) {
+        }
+    };
+
+    /**
+     * Indique si le contexte graphique courant permet le dessin instancié.
+     * Appelée depuis le fil de rendu, une fois le contexte créé.
+     *
+     * @return true si le dessin instancié est disponible.
+     */
+    boolean isDisponible();
+
+    /**
+     * Fixe le nombre d'instances dessinées avant de passer à l'élément suivant d'un attribut.
+     *
+     * @param attribut Emplacement de l'attribut dans le shader.
+     * @param diviseur 0 pour un attribut lu à chaque sommet, 1 pour un attribut lu à chaque instance.
+     */
+    void setDiviseur(int attribut, int diviseur);
+
+    /**
+     * Dessine plusieurs instances des mêmes sommets.
+     *
+     * @param mode          Type de primitive (par exemple {@code GL20.GL_TRIANGLE_STRIP}).
+     * @param premier       Premier sommet.
+     * @param nombreSommets Nombre de sommets par instance.
+     * @param instances     Nombre d'instances.
+     */
+    void dessiner(int mode, int premier, int nombreSommets, int instances);
+}
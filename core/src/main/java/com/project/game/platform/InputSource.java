@@ -0,0 +1,22 @@
+package com.project.game.platform;
+
+/**
+ * Source des actions du joueur lues par la simulation.
+ * Les actions forment un masque de bits (voir {@link com.project.game.key.Actions}), figé au début de chaque pas.
+ */
+public interface InputSource {
+
+    /**
+     * Retourne les actions du pas en cours.
+     *
+     * @return Masque des actions enfoncées.
+     */
+    int getActions();
+
+    /**
+     * Signale le début d'un pas de simulation : la source fige les actions que {@link #getActions()} retournera
+     * pendant ce pas. Appelée par {@link com.project.game.play.Play#tick(float)}.
+     */
+    default void nouveauPas() {
+    }
+}
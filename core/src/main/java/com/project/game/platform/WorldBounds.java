@@ -0,0 +1,22 @@
+package com.project.game.platform;
+
+/**
+ * Dimensions du monde dans lequel évolue la simulation.
+ * Permet à la logique du jeu de ne pas dépendre directement de la fenêtre.
+ */
+public interface WorldBounds {
+
+    /**
+     * Retourne la largeur du monde.
+     *
+     * @return Largeur en pixels.
+     */
+    float getLargeur();
+
+    /**
+     * Retourne la hauteur du monde.
+     *
+     * @return Hauteur en pixels.
+     */
+    float getHauteur();
+}
@@ -1,149 +1,77 @@
 package com.project.game.play;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.project.game.render.SpriteInstances;
 
 /**
- * Représente un ennemi dans le jeu.
- * L'ennemi se déplace vers le bas de l'écran et peut être détruit, affichant une explosion à la place de son image.
- * La classe hérite de la classe {@link Entity}.
+ * Représente le type "ennemi" du jeu.
+ * Les ennemis eux-mêmes sont stockés dans un {@link EntityStore} : cette classe regroupe leurs constantes
+ * et leur création, utilisables sans contexte graphique, ainsi que les images tirées de l'atlas du jeu
+ * et l'affichage de tous les ennemis d'un stockage.
+ * Un ennemi se déplace vers le bas de l'écran ; lorsqu'il est détruit, il est aussitôt retiré et son explosion
+ * est jouée par les effets visuels ({@link com.project.game.effect.EffectPool}).
  */
-public class Enemy extends Entity {
+public class Enemy {
 
     /**
-     * Vitesse de déplacement de l'ennemi (en pixels par seconde).
+     * Nom de l'image de l'ennemi dans l'atlas du jeu.
      */
-    private float vitesse = 100;
+    static final String REGION = "ennemi";
 
     /**
-     * Temps écoulé depuis l'explosion (en secondes).
+     * Nom de l'image d'explosion dans l'atlas du jeu.
      */
-    private float explosionTime = 0;
+    static final String EXPLOSION_REGION = "explosion";
 
     /**
-     * Texture de l'explosion lorsque l'ennemi est détruit.
+     * Vitesse de base d'un ennemi (en pixels par seconde).
      */
-    private Texture explosionTexture;
+    static final float VITESSE_BASE = 100;
 
     /**
-     * Indique si l'ennemi a été détruit.
+     * Taille d'un ennemi (en pixels), identique à celle de sa texture.
      */
-    private boolean estDetruit = false;
+    static final float LARGEUR = 128, HAUTEUR = 128;
 
     /**
-     * Constructeur de la classe Enemy.
-     * Initialise l'ennemi à la position donnée et charge la texture de l'ennemi et de l'explosion.
-     *
-     * @param x Position en x de l'ennemi.
-     * @param y Position en y de l'ennemi.
-     */
-    public Enemy(float x, float y) {
-        super(x, y, "game/ennemi.png");
-        explosionTexture = new Texture("game/explosion.png");
-    }
-
-    /**
-     * Met à jour la position de l'ennemi et gère l'état de l'explosion.
-     *
-     * @param delta Temps écoulé depuis la dernière mise à jour (en secondes).
+     * Image de l'ennemi.
      */
-    @Override
-    public void update(float delta) {
-        if (!estDetruit) {
-            y -= vitesse * delta;
-        } else {
-            explosionTime += delta;
-        }
-    }
+    private final TextureRegion texture;
 
     /**
-     * Affiche l'ennemi ou l'explosion à l'écran.
-     *
-     * @param batch Instance de {@link SpriteBatch} utilisée pour dessiner la texture.
-     */
-    @Override
-    public void render(SpriteBatch batch)
-    {
-        if (estDetruit) {
-            batch.draw(explosionTexture, x, y);
-        } else {
-            batch.draw(texture, x, y);
-        }
-    }
-
-    /**
-     * Vérifie si l'ennemi est en dehors de l'écran (en bas).
-     *
-     * @return true si l'ennemi est hors de l'écran, false sinon.
-     */
-    public boolean isOffScreen() {
-        return y + texture.getHeight() < 0;
-    }
-
-    /**
-     * Retourne la vitesse de l'ennemi.
-     *
-     * @return Vitesse de l'ennemi (en pixels par seconde).
-     */
-    public float getVitesse() {
-        return vitesse;
-    }
-
-    /**
-     * Modifie la vitesse de l'ennemi.
+     * Constructeur de la classe Enemy.
+     * Récupère l'image de l'ennemi dans l'atlas du jeu.
      *
-     * @param vitesse Nouvelle vitesse de l'ennemi.
+     * @param atlas Atlas du jeu, emprunté par l'appelant.
      */
-    public void setVitesse(float vitesse) {
-        this.vitesse = vitesse;
+    public Enemy(TextureAtlas atlas) {
+        texture = atlas.findRegion(REGION);
     }
 
     /**
-     * Détruit l'ennemi et déclenche l'animation de l'explosion.
-     */
-    public void destroy() {
-        estDetruit = true;
-        explosionTime = 0;
-    }
-
-    /**
-     * Retourne la largeur de la texture de l'ennemi.
-     *
-     * @return Largeur de la texture en pixels.
-     */
-    public float getWidth() { return texture.getWidth(); }
-
-    /**
-     * Retourne la hauteur de la texture de l'ennemi.
+     * Ajoute un ennemi descendant vers le bas de l'écran.
      *
-     * @return Hauteur de la texture en pixels.
-     */
-    public float getHeight() { return texture.getHeight(); }
-
-    /**
-     * Vérifie si l'ennemi a été détruit et si le temps d'explosion a suffisamment écoulé.
-     *
-     * @return true si l'ennemi est détruit et que l'explosion est terminée, false sinon.
-     */
-    public boolean estDetruit() {
-        return estDetruit && explosionTime > 1;
+     * @param ennemis Stockage des ennemis.
+     * @param x       Position en x de l'ennemi.
+     * @param y       Position en y de l'ennemi.
+     * @param vitesse Vitesse de l'ennemi (en pixels par seconde).
+     * @return L'indice de l'ennemi, ou -1 si le stockage est plein.
+     */
+    public static int spawn(EntityStore ennemis, float x, float y, float vitesse) {
+        return ennemis.ajouter(x, y, 0, -vitesse, LARGEUR, HAUTEUR);
     }
 
     /**
-     * Vérifie si l'ennemi est prêt à être retiré (si l'explosion est terminée).
+     * Ajoute à la liste des sprites de l'image tous les ennemis du stockage.
      *
-     * @return true si l'ennemi est prêt à être retiré, false sinon.
+     * @param sprites Sprites de l'image.
+     * @param ennemis Stockage des ennemis.
+     * @param alpha   Facteur d'interpolation entre les deux derniers pas de simulation.
      */
-    public boolean isReadyToRemove() {
-        return estDetruit && explosionTime > 1;
-    }
-
-    /**
-     * Libère les ressources associées aux textures de l'ennemi et de l'explosion.
-     */
-    public void dispose() {
-        texture.dispose();
-        explosionTexture.dispose();
+    public void ajouterSprites(SpriteInstances sprites, EntityStore ennemis, float alpha) {
+        for (int i = 0, n = ennemis.size; i < n; i++) {
+            sprites.ajouter(texture, ennemis.getXInterpole(i, alpha), ennemis.getYInterpole(i, alpha));
+        }
     }
 }
-
@@ -1,35 +1,43 @@
 package com.project.game.play;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-
 /**
- * Représente une entité de jeu générique avec une texture et une position.
- * Cette classe est abstraite et doit être étendue par des entités spécifiques comme {@link Player} ou {@link Enemy}.
+ * Représente une entité de jeu générique avec une position et une taille.
+ * Cette classe est abstraite et doit être étendue par des entités spécifiques comme {@link Player}.
+ * Les ennemis et projectiles, beaucoup plus nombreux, sont stockés dans un {@link EntityStore} et un {@link ProjectileRing}.
+ * Une entité ne possède aucune ressource graphique : son affichage est assuré par {@link PlayRenderer}.
  */
 public abstract class Entity {
 
     /**
-     * Texture de l'entité, utilisée pour l'affichage à l'écran.
+     * Position en x et y de l'entité.
      */
-    protected Texture texture;
+    protected float x, y;
 
     /**
-     * Position en x et y de l'entité.
+     * Position de l'entité au pas de simulation précédent, utilisée pour interpoler l'affichage.
      */
-    protected float x, y;
+    protected float xPrec, yPrec;
+
+    /**
+     * Taille de la boîte de collision de l'entité.
+     */
+    protected final float largeur, hauteur;
 
     /**
-     * Constructeur pour initialiser une entité avec une position et une texture.
+     * Constructeur pour initialiser une entité avec une position et une taille.
      *
-     * @param x Position en x de l'entité.
-     * @param y Position en y de l'entité.
-     * @param texturePath Chemin de la texture utilisée pour l'entité.
+     * @param x       Position en x de l'entité.
+     * @param y       Position en y de l'entité.
+     * @param largeur Largeur de l'entité.
+     * @param hauteur Hauteur de l'entité.
      */
-    public Entity(float x, float y, String texturePath) {
+    public Entity(float x, float y, float largeur, float hauteur) {
         this.x = x;
         this.y = y;
-        this.texture = new Texture(texturePath);
+        this.xPrec = x;
+        this.yPrec = y;
+        this.largeur = largeur;
+        this.hauteur = hauteur;
     }
 
     /**
@@ -41,19 +49,29 @@ public abstract class Entity {
     public abstract void update(float delta);
 
     /**
-     * Méthode abstraite pour rendre l'entité à l'écran.
-     * Cette méthode doit être implémentée dans les sous-classes.
+     * Mémorise la position actuelle comme position du pas précédent.
+     * Doit être appelée au début de chaque pas de simulation.
+     */
+    public void memoriserPosition() {
+        xPrec = x;
+        yPrec = y;
+    }
+
+    /**
+     * Retourne la position en x interpolée entre les deux derniers pas de simulation.
      *
-     * @param batch Instance de {@link SpriteBatch} utilisée pour dessiner la texture.
+     * @param alpha Facteur d'interpolation, entre 0 et 1.
+     * @return Position en x à afficher.
      */
-    public abstract void render(SpriteBatch batch) ;
+    public float getXInterpole(float alpha) { return xPrec + (x - xPrec) * alpha; }
 
     /**
-     * Libère les ressources associées à la texture de l'entité.
+     * Retourne la position en y interpolée entre les deux derniers pas de simulation.
+     *
+     * @param alpha Facteur d'interpolation, entre 0 et 1.
+     * @return Position en y à afficher.
      */
-    public void dispose() {
-        texture.dispose();
-    }
+    public float getYInterpole(float alpha) { return yPrec + (y - yPrec) * alpha; }
 
     /**
      * Retourne la position en x de l'entité.
@@ -68,5 +86,18 @@ public abstract class Entity {
      * @return La position en y de l'entité.
      */
     public float getY() { return y; }
-}
 
+    /**
+     * Retourne la largeur de l'entité.
+     *
+     * @return Largeur en pixels.
+     */
+    public float getWidth() { return largeur; }
+
+    /**
+     * Retourne la hauteur de l'entité.
+     *
+     * @return Hauteur en pixels.
+     */
+    public float getHeight() { return hauteur; }
+}
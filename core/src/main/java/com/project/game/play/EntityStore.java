@@ -0,0 +1,231 @@
+package com.project.game.play;
+
+import java.util.Arrays;
+
+/**
+ * Stockage des entités de la simulation sous forme de tableaux parallèles (structure de tableaux).
+ * L'entité d'indice {@code i} est décrite par {@code x[i]}, {@code y[i]}, {@code vx[i]}, etc.
+ * Les entités vivantes occupent toujours les indices {@code 0} à {@code size - 1} : un retrait déplace
+ * la dernière entité à la place de celle retirée, ce qui permet des boucles serrées sans trou ni allocation.
+ * Les tableaux sont volontairement accessibles dans le paquetage pour être parcourus directement.
+ */
+public class EntityStore {
+
+    /**
+     * Drapeau d'état : l'entité a été détruite et sera retirée à la fin du pas.
+     */
+    public static final byte DETRUIT = 1;
+
+    /**
+     * Position de chaque entité.
+     */
+    float[] x, y;
+
+    /**
+     * Position de chaque entité au pas de simulation précédent, utilisée pour interpoler l'affichage.
+     */
+    float[] xPrec, yPrec;
+
+    /**
+     * Vitesse de chaque entité (en pixels par seconde).
+     */
+    float[] vx, vy;
+
+    /**
+     * Taille de la boîte de collision de chaque entité.
+     */
+    float[] largeur, hauteur;
+
+    /**
+     * Drapeaux d'état de chaque entité.
+     */
+    byte[] etat;
+
+    /**
+     * Nombre d'entités vivantes.
+     */
+    int size;
+
+    /**
+     * Crée un stockage pouvant contenir {@code capacite} entités.
+     *
+     * @param capacite Nombre maximal d'entités.
+     */
+    public EntityStore(int capacite) {
+        x = new float[capacite];
+        y = new float[capacite];
+        xPrec = new float[capacite];
+        yPrec = new float[capacite];
+        vx = new float[capacite];
+        vy = new float[capacite];
+        largeur = new float[capacite];
+        hauteur = new float[capacite];
+        etat = new byte[capacite];
+    }
+
+    /**
+     * Agrandit le stockage pour contenir au moins {@code capacite} entités.
+     * Cette opération alloue ; elle est réservée au paramétrage de la partie.
+     *
+     * @param capacite Nouvelle capacité souhaitée.
+     */
+    public void reserver(int capacite) {
+        if (capacite <= x.length) {
+            return;
+        }
+        x = Arrays.copyOf(x, capacite);
+        y = Arrays.copyOf(y, capacite);
+        xPrec = Arrays.copyOf(xPrec, capacite);
+        yPrec = Arrays.copyOf(yPrec, capacite);
+        vx = Arrays.copyOf(vx, capacite);
+        vy = Arrays.copyOf(vy, capacite);
+        largeur = Arrays.copyOf(largeur, capacite);
+        hauteur = Arrays.copyOf(hauteur, capacite);
+        etat = Arrays.copyOf(etat, capacite);
+    }
+
+    /**
+     * Ajoute une entité à la fin du stockage.
+     *
+     * @param x       Position en x.
+     * @param y       Position en y.
+     * @param vx      Vitesse horizontale.
+     * @param vy      Vitesse verticale.
+     * @param largeur Largeur de la boîte de collision.
+     * @param hauteur Hauteur de la boîte de collision.
+     * @return L'indice de la nouvelle entité, ou -1 si le stockage est plein.
+     */
+    public int ajouter(float x, float y, float vx, float vy, float largeur, float hauteur) {
+        if (size == this.x.length) {
+            return -1;
+        }
+        int i = size++;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.xPrec[i] = x;
+        this.yPrec[i] = y;
+        this.vx[i] = vx;
+        this.vy[i] = vy;
+        this.largeur[i] = largeur;
+        this.hauteur[i] = hauteur;
+        this.etat[i] = 0;
+        return i;
+    }
+
+    /**
+     * Retire l'entité d'indice {@code i} en la remplaçant par la dernière entité.
+     * Lors d'un parcours avec retraits, il faut donc itérer du dernier indice vers le premier.
+     *
+     * @param i Indice de l'entité à retirer.
+     */
+    public void retirer(int i) {
+        int dernier = --size;
+        if (i != dernier) {
+            x[i] = x[dernier];
+            y[i] = y[dernier];
+            xPrec[i] = xPrec[dernier];
+            yPrec[i] = yPrec[dernier];
+            vx[i] = vx[dernier];
+            vy[i] = vy[dernier];
+            largeur[i] = largeur[dernier];
+            hauteur[i] = hauteur[dernier];
+            etat[i] = etat[dernier];
+        }
+    }
+
+    /**
+     * Déplace toutes les entités non détruites selon leur vitesse.
+     * La position de départ est conservée pour l'interpolation de l'affichage.
+     *
+     * @param delta Temps écoulé depuis la dernière mise à jour (en secondes).
+     */
+    public void deplacer(float delta) {
+        deplacer(delta, 0, size);
+    }
+
+    /**
+     * Déplace les entités d'indice compris entre {@code debut} (inclus) et {@code fin} (exclu).
+     * Chaque entité ne dépend que d'elle-même : des plages disjointes peuvent être traitées en parallèle,
+     * avec exactement le même résultat qu'un parcours unique.
+     *
+     * @param delta Temps écoulé depuis la dernière mise à jour (en secondes).
+     * @param debut Premier indice traité.
+     * @param fin   Indice suivant le dernier indice traité.
+     */
+    void deplacer(float delta, int debut, int fin) {
+        System.arraycopy(x, debut, xPrec, debut, fin - debut);
+        System.arraycopy(y, debut, yPrec, debut, fin - debut);
+        for (int i = debut; i < fin; i++) {
+            if ((etat[i] & DETRUIT) == 0) {
+                x[i] += vx[i] * delta;
+                y[i] += vy[i] * delta;
+            }
+        }
+    }
+
+    /**
+     * Marque une entité comme détruite.
+     *
+     * @param i Indice de l'entité.
+     */
+    public void detruire(int i) {
+        etat[i] |= DETRUIT;
+    }
+
+    /**
+     * Indique si une entité a été détruite.
+     *
+     * @param i Indice de l'entité.
+     * @return true si l'entité est détruite.
+     */
+    public boolean estDetruit(int i) {
+        return (etat[i] & DETRUIT) != 0;
+    }
+
+    /**
+     * Retourne la position en x de l'entité, interpolée entre les deux derniers pas de simulation.
+     *
+     * @param i     Indice de l'entité.
+     * @param alpha Facteur d'interpolation, entre 0 et 1.
+     * @return Position en x à afficher.
+     */
+    public float getXInterpole(int i, float alpha) {
+        return xPrec[i] + (x[i] - xPrec[i]) * alpha;
+    }
+
+    /**
+     * Retourne la position en y de l'entité, interpolée entre les deux derniers pas de simulation.
+     *
+     * @param i     Indice de l'entité.
+     * @param alpha Facteur d'interpolation, entre 0 et 1.
+     * @return Position en y à afficher.
+     */
+    public float getYInterpole(int i, float alpha) {
+        return yPrec[i] + (y[i] - yPrec[i]) * alpha;
+    }
+
+    /**
+     * Retire toutes les entités.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Retourne le nombre d'entités vivantes.
+     *
+     * @return Nombre d'entités.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retourne la capacité du stockage.
+     *
+     * @return Nombre maximal d'entités.
+     */
+    public int getCapacite() {
+        return x.length;
+    }
+}
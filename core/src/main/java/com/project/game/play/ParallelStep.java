@@ -0,0 +1,161 @@
+package com.project.game.play;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parties parallèles d'un pas de simulation, utilisées par {@link Play} lorsque les ennemis sont très nombreux.
+ * Le travail est découpé en morceaux exécutés sur un {@link ForkJoinPool} :
+ * <ul>
+ *   <li>le déplacement des ennemis, chaque morceau traitant une plage d'indices ;</li>
+ *   <li>le remplissage de la grille de collisions, chaque morceau rangeant une plage d'ennemis dans son propre lot
+ *   de {@link SpatialHash}, les lots étant ensuite enchaînés dans l'ordre des indices.</li>
+ * </ul>
+ * Les morceaux ne font que lire l'état partagé ou écrire dans leur propre plage ; la grille obtenue rend les mêmes
+ * candidats, dans le même ordre, qu'après un remplissage séquentiel. Les collisions, les destructions, les sons
+ * et le score sont ensuite traités par {@link Play} sur le fil appelant : le résultat est identique, au bit près,
+ * à celui du parcours séquentiel.
+ * Les tâches sont créées une fois pour toutes et réutilisées : un pas parallèle n'alloue rien.
+ */
+class ParallelStep {
+
+    /**
+     * Pool d'exécution des morceaux.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Morceaux réutilisés d'un pas à l'autre, et tâche racine qui les distribue.
+     */
+    private final Morceau[] morceaux;
+    private final Racine racine = new Racine();
+
+    /**
+     * Nombre de morceaux utilisés par l'opération en cours.
+     */
+    private int nombre;
+
+    /**
+     * Paramètres de l'opération en cours, lus par les morceaux.
+     */
+    private Play play;
+    private EntityStore ennemis;
+    private float delta;
+
+    /**
+     * Crée les morceaux, un par fil du pool.
+     *
+     * @param pool Pool d'exécution.
+     */
+    ParallelStep(ForkJoinPool pool) {
+        this.pool = pool;
+        morceaux = new Morceau[Math.max(1, pool.getParallelism())];
+        for (int k = 0; k < morceaux.length; k++) {
+            morceaux[k] = new Morceau(k);
+        }
+    }
+
+    /**
+     * Retourne le nombre de fils utilisés.
+     *
+     * @return Nombre de morceaux.
+     */
+    int getParallelisme() {
+        return morceaux.length;
+    }
+
+    /**
+     * Déplace tous les ennemis, en parallèle.
+     *
+     * @param ennemis Stockage des ennemis.
+     * @param delta   Durée du pas (en secondes).
+     */
+    void deplacer(EntityStore ennemis, float delta) {
+        this.ennemis = ennemis;
+        this.delta = delta;
+        executer(Morceau.DEPLACER, ennemis.size);
+        this.ennemis = null;
+    }
+
+    /**
+     * Remplit la grille de collisions en parallèle : chaque morceau range sa plage d'ennemis dans son lot,
+     * puis les lots sont enchaînés sur le fil appelant.
+     *
+     * @param play    Partie, qui range les ennemis d'une plage ({@link Play#remplirLot}).
+     * @param grille  Grille à remplir.
+     * @param ennemis Nombre d'ennemis dans le stockage.
+     */
+    void remplirGrille(Play play, SpatialHash grille, int ennemis) {
+        grille.preparerLots(morceaux.length, ennemis);
+        this.play = play;
+        executer(Morceau.REMPLIR, ennemis);
+        this.play = null;
+        grille.fusionnerLots();
+    }
+
+    /**
+     * Découpe {@code total} éléments en plages contiguës et les traite sur le pool.
+     */
+    private void executer(int operation, int total) {
+        nombre = Math.min(morceaux.length, total);
+        if (nombre == 0) {
+            return;
+        }
+        for (int k = 0; k < nombre; k++) {
+            Morceau morceau = morceaux[k];
+            morceau.reinitialize();
+            morceau.operation = operation;
+            morceau.debut = (int) ((long) total * k / nombre);
+            morceau.fin = (int) ((long) total * (k + 1) / nombre);
+        }
+        racine.reinitialize();
+        pool.invoke(racine);
+    }
+
+    /**
+     * Tâche racine : lance tous les morceaux sauf le premier, traite le premier puis attend les autres.
+     */
+    private class Racine extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void compute() {
+            for (int k = 1; k < nombre; k++) {
+                morceaux[k].fork();
+            }
+            morceaux[0].invoke();
+            for (int k = 1; k < nombre; k++) {
+                morceaux[k].join();
+            }
+        }
+    }
+
+    /**
+     * Morceau de travail : une plage d'indices d'ennemis.
+     */
+    private class Morceau extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        static final int DEPLACER = 0, REMPLIR = 1;
+
+        /**
+         * Rang du morceau, qui est aussi le numéro de son lot dans la grille.
+         */
+        final int rang;
+
+        int operation, debut, fin;
+
+        Morceau(int rang) {
+            this.rang = rang;
+        }
+
+        @Override
+        protected void compute() {
+            if (operation == DEPLACER) {
+                ennemis.deplacer(delta, debut, fin);
+            } else {
+                play.remplirLot(rang, debut, fin);
+            }
+        }
+    }
+}
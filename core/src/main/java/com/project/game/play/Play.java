@@ -1,24 +1,23 @@
 package com.project.game.play;
 
-import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.project.game.sound.MusicManager;
+import com.project.game.key.Actions;
+import com.project.game.platform.AudioSink;
+import com.project.game.platform.EffectSink;
+import com.project.game.platform.InputSource;
+import com.project.game.platform.WorldBounds;
 
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Cette classe gère la logique du jeu, y compris le vaisseau, les ennemis, les projectiles,
  * ainsi que la gestion des vies, du score, du niveau et des vagues d'ennemis.
+ * Elle ne dépend d'aucune ressource graphique ni des variables statiques de {@code Gdx} :
+ * les dimensions du monde, les entrées et le son lui sont fournis, et l'affichage est assuré par {@link PlayRenderer}.
  */
 public class Play {
     private Player vaisseau;
-    private ArrayList<com.project.game.play.Projectile> projectiles;
-    private ArrayList<Enemy> ennemis;
-    private BitmapFont police;
+    private ProjectileRing projectiles;
+    private EntityStore ennemis;
     private int vies = 5; // Initialisation des vies à 5
     private int score = 0;
     private boolean gameOver = false;
@@ -35,107 +34,390 @@ public class Play {
     /**
      * Different son joué pendant une partie
      */
-    private Sound soundProjectile, soundLife, explosionSound;
+    public static final String SON_PROJECTILE = "sound/sound_projectile.mp3";
+    public static final String SON_DESTRUCTION = "sound/sound_destroy.mp3";
+
+    /**
+     * Dimensions du monde, entrées clavier et sortie audio de la partie.
+     */
+    private final WorldBounds bornes;
+    private final InputSource input;
+    private final AudioSink audio;
+
+    /**
+     * Sortie des effets visuels : explosions des ennemis détruits et éclairs des tirs.
+     */
+    private EffectSink effets = EffectSink.AUCUN;
+
+    /**
+     * Arme du vaisseau, qui fixe la cadence de tir et donc la capacité du tampon des projectiles.
+     */
+    private Weapon arme = new Weapon(INTERVALLE_TIR);
+
+    /**
+     * Intervalle par défaut entre deux tirs (en secondes).
+     */
+    private static final float INTERVALLE_TIR = 0.15f;
+
+    /**
+     * Grille de première passe pour les collisions, reconstruite à chaque mise à jour,
+     * et tableau recevant les ennemis candidats renvoyés par ses requêtes.
+     */
+    private SpatialHash grille;
+    private int[] candidats;
+
+    /**
+     * Taille d'une cellule de la grille de collisions, de l'ordre de la taille d'un ennemi.
+     */
+    private static final float TAILLE_CELLULE = 128;
+
+    /**
+     * Fréquence par défaut de la simulation (pas par seconde) et nombre maximal de pas de rattrapage par image.
+     */
+    public static final int FREQUENCE_SIMULATION = 60;
+    private static final int PAS_MAX_PAR_IMAGE = 5;
+
+    /**
+     * Horloge à pas fixe qui découpe le temps réel en pas de simulation.
+     */
+    private SimulationClock horloge;
+
+    /**
+     * Position du vaisseau au début du pas en cours, pour la détection de collisions continue.
+     */
+    private float xVaisseauPrec, yVaisseauPrec;
+
     /**
-     * Constructeur de la classe Play. Initialise le vaisseau, les projectiles, les ennemis, et le texte de la police.
+     * Nombre d'ennemis par défaut à partir duquel les déplacements et le remplissage de la grille sont calculés en parallèle.
+     */
+    public static final int SEUIL_PARALLELE = 2000;
+
+    /**
+     * Nombre d'ennemis à partir duquel le pas de simulation passe en parallèle,
+     * et parties parallèles du pas, créées à la première utilisation.
+     */
+    private int seuilParallele = SEUIL_PARALLELE;
+    private ParallelStep parallele;
+
+    /**
+     * Graine de la partie. Le pas de simulation ne tire aucun nombre aléatoire : les motifs aléatoires des vagues
+     * sont tirés à la compilation de la chronologie, d'un générateur initialisé par cette graine.
+     * Une partie est ainsi entièrement déterminée par sa graine, ses réglages et ses entrées,
+     * ce qui permet de la rejouer à l'identique.
+     */
+    private long graine;
+
+    /**
+     * Chronologie des apparitions du niveau, ou null pour compléter les vagues dès que les ennemis sont trop peu nombreux.
+     * Le curseur désigne la prochaine apparition, et le temps est celui écoulé depuis le début du passage en cours.
+     */
+    private SpawnTimeline vagues;
+    private int curseurVagues;
+    private float tempsVagues;
+
+    /**
+     * Constructeur de la classe Play. Initialise le vaisseau, les projectiles et les ennemis.
      * Une vague d'ennemis est également ajoutée à ce moment.
+     *
+     * @param bornes Dimensions du monde.
+     * @param input  Source des actions du joueur.
+     * @param audio  Sortie audio des effets sonores.
      */
-    public Play() {
-        vaisseau = new Player();
-        projectiles = new ArrayList<>();
-        ennemis = new ArrayList<>();
-        police = new BitmapFont();
-        police.getData().setScale(2);
+    public Play(WorldBounds bornes, InputSource input, AudioSink audio) {
+        this.bornes = bornes;
+        this.input = input;
+        this.audio = audio;
+        setGraine(System.nanoTime());
+        vaisseau = new Player(bornes);
+        horloge = new SimulationClock(FREQUENCE_SIMULATION, PAS_MAX_PAR_IMAGE);
+        projectiles = new ProjectileRing(capaciteProjectiles());
+        ennemis = new EntityStore(ennemisMax);
+        grille = new SpatialHash(bornes.getLargeur(), bornes.getHauteur(), TAILLE_CELLULE, ennemisMax);
+        candidats = new int[ennemisMax];
         ajouterVague();
     }
 
     /**
-     * Met à jour l'état du jeu, y compris les mouvements du vaisseau, les projectiles et les ennemis.
+     * Fait avancer la simulation du temps écoulé depuis la dernière image.
+     * Le temps est découpé en pas fixes par l'horloge de simulation : la logique du jeu
+     * ne dépend donc pas de la fréquence d'affichage, et un à-coup ne produit jamais un pas géant.
+     *
+     * @param delta Temps écoulé depuis la dernière image (en secondes).
+     */
+    public void update(float delta) {
+        int nombrePas = horloge.avancer(delta);
+        for (int i = 0; i < nombrePas; i++) {
+            tick(horloge.getPas());
+        }
+    }
+
+    /**
+     * Prépare la reprise après une pause : l'horloge de simulation est vidée et sa moyenne des deltas oubliée,
+     * de sorte que le temps passé en pause n'est pas rattrapé.
+     */
+    public void reprendre() {
+        horloge.reset();
+    }
+
+    /**
+     * Exécute un pas de simulation : mouvements du vaisseau, des projectiles et des ennemis.
      * Gère également les collisions et l'invincibilité du joueur.
+     * Les actions du joueur sont lues une seule fois, au début du pas.
      *
      * Joue le son de collisions
      *
-     * @param delta Temps écoulé depuis la dernière mise à jour (en secondes).
+     * @param delta Durée du pas (en secondes).
      */
-    public void update(float delta) {
+    public void tick(float delta) {
+        // Une partie terminée n'avance plus : l'enregistrement s'arrête au dernier pas joué
         if (gameOver) return;
+        input.nouveauPas();
+        int actions = input.getActions();
 
         if (invincibilityTimer > 0) {
             invincibilityTimer -= delta;
         }
 
-        // Ajout d'ennemis dynamiquement pour rester entre les limites
-        if (ennemis.size() < ennemisMin) {
+        // Apparitions prévues par le niveau, ou ajout d'ennemis dynamiquement pour rester entre les limites
+        if (vagues != null) {
+            faireApparaitre(delta);
+        } else if (ennemis.size < ennemisMin) {
             ajouterVague();
         }
 
+        xVaisseauPrec = vaisseau.getX();
+        yVaisseauPrec = vaisseau.getY();
+        vaisseau.setActions(actions);
         vaisseau.update(delta);
 
-        projectiles.removeIf(projectile -> {
-            projectile.update(delta);
-            return !projectile.isActive();
-        });
-
-        Iterator<Enemy> it = ennemis.iterator();
-        while (it.hasNext()) {
-            Enemy ennemi = it.next();
-            ennemi.update(delta);
-
-            if (ennemi.isOffScreen()) {
-                it.remove();
-            } else if (invincibilityTimer <= 0 && checkCollision(vaisseau.getX(), vaisseau.getY(), vaisseau.getWidth(),
-                    vaisseau.getHeight(), ennemi.getX(), ennemi.getY(), ennemi.getWidth(), ennemi.getHeight())) {
-                vies--;
-                soundLife = Gdx.audio.newSound(Gdx.files.internal("sound/sound_destroy.mp3"));
-                new MusicManager().playSound(soundLife);
-                invincibilityTimer = invincibilityTime;
-                ennemi.destroy();
-                if (vies <= 0) {
-                    gameOver = true;
-                }
-            } else if (ennemi.estDetruit() && ennemi.isReadyToRemove()) {
-                it.remove();
-                ennemisDetruits++;
-                score += niveau; // Augmentation progressive du score
-
-                // Vérification pour augmenter le niveau
-                if (ennemisDetruits >= ennemisPourNiveau) {
-                    niveau++;
-                    ennemisPourNiveau += 3; // Incrémentation progressive du seuil
-                    ennemisDetruits = 0;
-                }
+        projectiles.deplacer(Projectile.VITESSE * delta);
+
+        boolean enParallele = utiliserParallele();
+        if (enParallele) {
+            parallele.deplacer(ennemis, delta);
+        } else {
+            ennemis.deplacer(delta);
+        }
+        float[] y = ennemis.y, hauteur = ennemis.hauteur;
+        for (int i = ennemis.size - 1; i >= 0; i--) {
+            if (y[i] + hauteur[i] < 0) {
+                ennemis.retirer(i);
             }
         }
 
+        if (enParallele) {
+            parallele.remplirGrille(this, grille, ennemis.size);
+        } else {
+            remplirGrille();
+        }
+        if (invincibilityTimer <= 0) {
+            detectCollisionVaisseau();
+        }
         detectCollisions();
+        retirerDetruits();
+        // Retrait des projectiles sortis de l'écran ou ayant touché un ennemi, après les collisions :
+        // un projectile qui sort par le haut pendant le pas touche encore les ennemis qu'il a traversés
+        projectiles.retirerInactifs(bornes.getHauteur());
 
-        if (Gdx.input.isKeyPressed(Input.Keys.SPACE)) {
+        if (arme.update(delta, (actions & Actions.TIR) != 0)) {
             tirer();
         }
     }
 
+    /**
+     * Range dans la grille les ennemis encore en vie, identifiés par leur indice dans le stockage.
+     * Chaque ennemi y occupe la zone balayée pendant le pas, de sa position précédente à sa position courante.
+     * Les ennemis détruits pendant le pas n'y figurent pas et ne peuvent donc plus être touchés.
+     */
+    void remplirGrille() {
+        grille.clear();
+        float[] x = ennemis.x, y = ennemis.y, xPrec = ennemis.xPrec, yPrec = ennemis.yPrec;
+        float[] largeur = ennemis.largeur, hauteur = ennemis.hauteur;
+        byte[] etat = ennemis.etat;
+        for (int i = 0, n = ennemis.size; i < n; i++) {
+            if ((etat[i] & EntityStore.DETRUIT) == 0) {
+                float dx = x[i] - xPrec[i], dy = y[i] - yPrec[i];
+                grille.insert(i, Math.min(x[i], xPrec[i]), Math.min(y[i], yPrec[i]),
+                        largeur[i] + Math.abs(dx), hauteur[i] + Math.abs(dy));
+            }
+        }
+    }
+
+    /**
+     * Range dans un lot de la grille les ennemis encore en vie d'une plage d'indices, comme {@link #remplirGrille()}.
+     * Appelée en parallèle par {@link ParallelStep}, chaque ennemi occupant l'emplacement de son indice.
+     *
+     * @param lot   Numéro du lot.
+     * @param debut Premier indice de la plage.
+     * @param fin   Indice suivant le dernier de la plage.
+     */
+    void remplirLot(int lot, int debut, int fin) {
+        float[] x = ennemis.x, y = ennemis.y, xPrec = ennemis.xPrec, yPrec = ennemis.yPrec;
+        float[] largeur = ennemis.largeur, hauteur = ennemis.hauteur;
+        byte[] etat = ennemis.etat;
+        for (int i = debut; i < fin; i++) {
+            if ((etat[i] & EntityStore.DETRUIT) == 0) {
+                float dx = x[i] - xPrec[i], dy = y[i] - yPrec[i];
+                grille.insererDansLot(lot, i, i, Math.min(x[i], xPrec[i]), Math.min(y[i], yPrec[i]),
+                        largeur[i] + Math.abs(dx), hauteur[i] + Math.abs(dy));
+            }
+        }
+    }
+
+    /**
+     * Détecte une collision entre le vaisseau et un ennemi proche, pendant tout le pas :
+     * l'ennemi retenu est le premier que le vaisseau touche, d'après leurs déplacements.
+     * Le vaisseau perd une vie et devient invincible pendant quelques secondes.
+     *
+     * Joue le son de collisions
+     */
+    private void detectCollisionVaisseau() {
+        float x = vaisseau.getX(), y = vaisseau.getY(), largeur = vaisseau.getWidth(), hauteur = vaisseau.getHeight();
+        float dx = x - xVaisseauPrec, dy = y - yVaisseauPrec;
+        int trouves = grille.query(Math.min(x, xVaisseauPrec), Math.min(y, yVaisseauPrec),
+                largeur + Math.abs(dx), hauteur + Math.abs(dy), candidats);
+        int touche = -1;
+        float premier = Float.POSITIVE_INFINITY;
+        for (int k = 0; k < trouves; k++) {
+            int j = candidats[k];
+            float t = instantContact(xVaisseauPrec, yVaisseauPrec, dx, dy, largeur, hauteur, j);
+            if (t != SweptAabb.AUCUN_CONTACT && t < premier) {
+                premier = t;
+                touche = j;
+            }
+        }
+        if (touche >= 0) {
+            vies--;
+            audio.jouer(SON_DESTRUCTION);
+            invincibilityTimer = invincibilityTime;
+            ennemis.detruire(touche);
+            if (vies <= 0) {
+                gameOver = true;
+            }
+        }
+    }
+
     /**
      * Détecte les collisions entre les projectiles et les ennemis.
+     * Chaque projectile n'est comparé qu'aux ennemis des cellules voisines de la grille,
+     * et touche le premier d'entre eux qu'il rencontre pendant le pas.
      *
      * Joue le son de collisions
      */
-    private void detectCollisions() {
-        for (com.project.game.play.Projectile projectile : projectiles) {
-            Iterator<Enemy> it = ennemis.iterator();
-            while (it.hasNext()) {
-                Enemy ennemi = it.next();
-                if (checkCollision(projectile.getX(), projectile.getY(), 10, 10,
-                        ennemi.getX(), ennemi.getY(), ennemi.getWidth(), ennemi.getHeight())) {
-                    explosionSound = Gdx.audio.newSound(Gdx.files.internal("sound/sound_destroy.mp3"));
-                    new MusicManager().playSound(explosionSound);
-                    ennemi.destroy();
-                    projectile.setInactive();
-                    break;
-                }
+    void detectCollisions() {
+        byte[] pe = projectiles.etat;
+        for (int r = 0, n = projectiles.size; r < n; r++) {
+            int i = projectiles.indice(r);
+            if (pe[i] != 0) {
+                continue;
+            }
+            int j = premierImpact(i);
+            if (j >= 0) {
+                toucher(i, j);
             }
         }
     }
 
+    /**
+     * Cherche le premier ennemi non détruit touché par un projectile pendant le pas : celui dont l'instant de contact,
+     * calculé sur les déplacements du projectile et de l'ennemi, est le plus petit
+     * (le premier dans l'ordre des candidats de la grille en cas d'égalité).
+     *
+     * @param i Indice du projectile dans le tampon.
+     * @return Indice de l'ennemi touché, ou -1.
+     */
+    private int premierImpact(int i) {
+        float px = projectiles.xPrec[i], py = projectiles.yPrec[i];
+        float dx = projectiles.x[i] - px, dy = projectiles.y[i] - py;
+        float taille = Projectile.TAILLE;
+        int trouves = grille.query(Math.min(px, px + dx), Math.min(py, py + dy),
+                taille + Math.abs(dx), taille + Math.abs(dy), candidats);
+        int touche = -1;
+        float premier = Float.POSITIVE_INFINITY;
+        for (int k = 0; k < trouves; k++) {
+            int j = candidats[k];
+            if (ennemis.estDetruit(j)) {
+                continue;
+            }
+            float t = instantContact(px, py, dx, dy, taille, taille, j);
+            if (t != SweptAabb.AUCUN_CONTACT && t < premier) {
+                premier = t;
+                touche = j;
+            }
+        }
+        return touche;
+    }
+
+    /**
+     * Calcule l'instant du premier contact, pendant le pas, entre une boîte en mouvement et un ennemi.
+     *
+     * @param x, y, dx, dy, largeur, hauteur Position au début du pas, déplacement et taille de la boîte.
+     * @param j Indice de l'ennemi.
+     * @return Instant du contact en fraction du pas, ou {@link SweptAabb#AUCUN_CONTACT}.
+     */
+    private float instantContact(float x, float y, float dx, float dy, float largeur, float hauteur, int j) {
+        float ex = ennemis.xPrec[j], ey = ennemis.yPrec[j];
+        return SweptAabb.instantContact(x, y, dx, dy, largeur, hauteur,
+                ex, ey, ennemis.x[j] - ex, ennemis.y[j] - ey, ennemis.largeur[j], ennemis.hauteur[j]);
+    }
+
+    /**
+     * Détruit un ennemi touché par un projectile, ainsi que le projectile.
+     *
+     * Joue le son de collisions
+     */
+    private void toucher(int i, int j) {
+        audio.jouer(SON_DESTRUCTION);
+        ennemis.detruire(j);
+        projectiles.detruire(i);
+    }
+
+    /**
+     * Retire les ennemis détruits pendant le pas et transmet leur position aux effets, qui jouent l'explosion :
+     * un ennemi détruit ne coûte plus rien à la simulation dès le pas suivant.
+     * Chaque ennemi détruit rapporte des points et compte pour le passage au niveau suivant.
+     */
+    private void retirerDetruits() {
+        float[] x = ennemis.x, y = ennemis.y, largeur = ennemis.largeur, hauteur = ennemis.hauteur;
+        byte[] etat = ennemis.etat;
+        for (int i = ennemis.size - 1; i >= 0; i--) {
+            if ((etat[i] & EntityStore.DETRUIT) == 0) {
+                continue;
+            }
+            effets.explosion(x[i] + largeur[i] / 2, y[i] + hauteur[i] / 2);
+            ennemis.retirer(i);
+            ennemisDetruits++;
+            score += niveau; // Augmentation progressive du score
+
+            // Vérification pour augmenter le niveau
+            if (ennemisDetruits >= ennemisPourNiveau) {
+                niveau++;
+                ennemisPourNiveau += 3; // Incrémentation progressive du seuil
+                ennemisDetruits = 0;
+            }
+        }
+    }
+
+    /**
+     * Indique si le pas en cours doit être calculé en parallèle, et crée les parties parallèles si besoin.
+     *
+     * @return true si les ennemis sont assez nombreux et si plusieurs processeurs sont disponibles.
+     */
+    private boolean utiliserParallele() {
+        if (ennemis.size < seuilParallele) {
+            return false;
+        }
+        if (parallele == null) {
+            ForkJoinPool pool = ForkJoinPool.commonPool();
+            if (pool.getParallelism() < 2) {
+                seuilParallele = Integer.MAX_VALUE;
+                return false;
+            }
+            parallele = new ParallelStep(pool);
+        }
+        return true;
+    }
+
     /**
      * Vérifie si deux rectangles (définis par leur position et leur taille) se chevauchent.
      *
@@ -143,97 +425,138 @@ public class Play {
      * @param x2, y2, width2, height2 Position et taille du second rectangle.
      * @return true si les rectangles se chevauchent, false sinon.
      */
-    private boolean checkCollision(float x1, float y1, float width1, float height1,
-                                   float x2, float y2, float width2, float height2) {
+    boolean checkCollision(float x1, float y1, float width1, float height1,
+                           float x2, float y2, float width2, float height2) {
         return x1 < x2 + width2 && x1 + width1 > x2 &&
                y1 < y2 + height2 && y1 + height1 > y2;
     }
 
     /**
-     * Ajoute les différentes vagues d'ennemis
+     * Ajoute les différentes vagues d'ennemis.
+     * La vague s'arrête si le stockage des ennemis est plein.
      */
-    private void ajouterVague() {
-        int ennemisAAjouter = ennemisMax - ennemis.size();
-        int espaceEntreEnnemis = Gdx.graphics.getWidth() / (ennemisAAjouter + 1);
+    void ajouterVague() {
+        int ennemisAAjouter = ennemisMax - ennemis.size;
+        // Écart flottant : arrondi à l'entier, il tombait à 0 à partir d'un millier d'ennemis, tous empilés hors écran
+        float espaceEntreEnnemis = bornes.getLargeur() / (ennemisAAjouter + 1);
 
         for (int i = 0; i < ennemisAAjouter; i++) {
             float x = (i + 1) * espaceEntreEnnemis - 25;
-            Enemy ennemi = new Enemy(x, Gdx.graphics.getHeight());
 
             // Réglage de la vitesse avec une limite maximale
-            float nouvelleVitesse = ennemi.getVitesse() + 0.5f * niveau;
-            ennemi.setVitesse(Math.min(nouvelleVitesse, vitesseMax));
-
-            ennemis.add(ennemi);
+            float nouvelleVitesse = Enemy.VITESSE_BASE + 0.5f * niveau;
+            if (Enemy.spawn(ennemis, x, bornes.getHauteur(), Math.min(nouvelleVitesse, vitesseMax)) < 0) {
+                break;
+            }
         }
     }
 
     /**
-     * Ajoute une nouvelle vague d'ennemis à l'écran.
+     * Fait apparaître les ennemis de la chronologie dont l'instant est atteint, en avançant le curseur :
+     * seules les apparitions du pas sont parcourues. À la fin d'un niveau qui boucle, la chronologie reprend
+     * au début. Une apparition est perdue si le stockage des ennemis est plein.
+     *
+     * @param delta Durée du pas (en secondes).
      */
-    public void render(SpriteBatch batch) {
-        if (gameOver) {
-            displayGameOver(batch);
-            return;
-        }
-
-        vaisseau.render(batch);
-        for (com.project.game.play.Projectile projectile : projectiles) {
-            projectile.render(batch);
-        }
-        for (Enemy ennemi : ennemis) {
-            ennemi.render(batch);
-        }
-
-        police.draw(batch, "Lives: " + vies, 10, Gdx.graphics.getHeight() - 10);
-        police.draw(batch, "Score: " + score, 10, Gdx.graphics.getHeight() - 40);
-        police.draw(batch, "Level: " + niveau, 10, Gdx.graphics.getHeight() - 70);
-        if (invincibilityTimer > 0) {
-            police.draw(batch, "Invincibility: " + (int) invincibilityTimer, 10, Gdx.graphics.getHeight() - 100);
+    private void faireApparaitre(float delta) {
+        SpawnTimeline v = vagues;
+        float[] temps = v.temps;
+        float bonus = v.bonusVitesseParNiveau * niveau;
+        tempsVagues += delta;
+        while (true) {
+            if (curseurVagues == temps.length) {
+                if (!v.boucle || tempsVagues < v.duree) {
+                    return;
+                }
+                tempsVagues -= v.duree;
+                curseurVagues = 0;
+                continue;
+            }
+            if (temps[curseurVagues] > tempsVagues) {
+                return;
+            }
+            int k = curseurVagues++;
+            Enemy.spawn(ennemis, v.x[k], v.y[k], Math.min(v.vitesse[k] + bonus, vitesseMax));
         }
     }
 
     /**
-     * Affiche le texte du game over à l'écran.
+     * Permet au joueur de tirer un projectile, sans tenir compte de la cadence de l'arme.
+     * Si le tampon des projectiles est plein, le plus ancien projectile est remplacé.
      *
-     * @param batch SpriteBatch utilisé pour rendre le texte.
+     * Joue le son du projectile
      */
-    private void displayGameOver(SpriteBatch batch) {
-        police.getData().setScale(5);
-        String text = "GAME OVER\nScore: " + score;
-        float x = (Gdx.graphics.getWidth() - police.getData().scaleX * text.length() * 10) / 2;
-        float y = Gdx.graphics.getHeight() / 2;
-        police.draw(batch, text, x, y);
+    public void tirer() {
+        Projectile.spawn(projectiles, vaisseau.getX() + 20, vaisseau.getY() + 40);
+        effets.tir(vaisseau.getX() + vaisseau.getWidth() / 2, vaisseau.getY() + vaisseau.getHeight());
+        audio.jouer(SON_PROJECTILE);
     }
 
     /**
-     * Permet au joueur de tirer un projectile.
+     * Calcule la capacité du tampon des projectiles : le nombre maximal de projectiles que l'arme
+     * peut avoir en vol pendant le temps qu'il faut à un projectile pour traverser l'écran.
      *
-     * Joue le son du projectile
+     * @return Capacité nécessaire.
      */
-    public void tirer() {
-        projectiles.add(new com.project.game.play.Projectile(vaisseau.getX() + 20, vaisseau.getY() + 40));
-        soundProjectile = Gdx.audio.newSound(Gdx.files.internal("sound/sound_projectile.mp3"));
-        new MusicManager().playSound(soundProjectile);
+    private int capaciteProjectiles() {
+        return arme.maxEnVol(bornes.getHauteur() / Projectile.VITESSE);
     }
 
     /**
-     * Libère les ressources allouées pour le jeu, y compris les entités et la police.
+     * Calcule une empreinte de l'état de la simulation (FNV-1a sur 64 bits) : vaisseau, compteurs,
+     * ennemis et projectiles, positions comprises au bit près. Deux parties qui ont divergé,
+     * même d'un seul bit de flottant, ont des empreintes différentes. Ne crée aucun objet.
+     *
+     * @return Empreinte de l'état courant.
      */
-    public void dispose() {
-        vaisseau.dispose();
-        projectiles.forEach(Projectile::dispose);
-        ennemis.forEach(Enemy::dispose);
-        police.dispose();
-        if (soundLife != null) {
-            soundLife.dispose();
+    public long hashEtat() {
+        long h = 0xcbf29ce484222325L;
+        h = melanger(h, Float.floatToIntBits(vaisseau.getX()));
+        h = melanger(h, Float.floatToIntBits(vaisseau.getY()));
+        h = melanger(h, vies);
+        h = melanger(h, score);
+        h = melanger(h, niveau);
+        h = melanger(h, ennemisDetruits);
+        h = melanger(h, ennemisPourNiveau);
+        h = melanger(h, Float.floatToIntBits(invincibilityTimer));
+        h = melanger(h, gameOver ? 1 : 0);
+
+        h = melanger(h, ennemis.size);
+        for (int i = 0, n = ennemis.size; i < n; i++) {
+            h = melanger(h, Float.floatToIntBits(ennemis.x[i]));
+            h = melanger(h, Float.floatToIntBits(ennemis.y[i]));
+            h = melanger(h, Float.floatToIntBits(ennemis.vy[i]));
+            h = melanger(h, ennemis.etat[i]);
         }
-        if (soundProjectile != null) {
-            soundProjectile.dispose();
+
+        h = melanger(h, projectiles.size);
+        for (int r = 0, n = projectiles.size; r < n; r++) {
+            int i = projectiles.indice(r);
+            h = melanger(h, Float.floatToIntBits(projectiles.x[i]));
+            h = melanger(h, Float.floatToIntBits(projectiles.y[i]));
+            h = melanger(h, projectiles.etat[i]);
         }
-        if (explosionSound != null) {
-            explosionSound.dispose();
+        return h;
+    }
+
+    /**
+     * Ajoute un entier à une empreinte FNV-1a, octet par octet.
+     */
+    private static long melanger(long h, int valeur) {
+        for (int k = 0; k < 32; k += 8) {
+            h ^= (valeur >>> k) & 0xFF;
+            h *= 0x100000001b3L;
         }
+        return h;
+    }
+
+    /**
+     * Vide la partie de ses entités.
+     * La simulation ne possède aucune ressource native : seul l'affichage a des ressources à libérer.
+     */
+    public void dispose() {
+        projectiles.clear();
+        ennemis.clear();
     }
 
     public void setEnnemisMin(int ennemisMin) {
@@ -242,12 +565,77 @@ public class Play {
 
     public void setEnnemisMax(int ennemisMax) {
         this.ennemisMax = ennemisMax;
+        ennemis.reserver(ennemisMax);
+        grille.reserver(ennemisMax);
+        if (candidats.length < ennemisMax) {
+            candidats = new int[ennemisMax];
+        }
+    }
+
+    /**
+     * Change la fréquence de la simulation. Les collisions étant continues, une fréquence plus basse
+     * coûte moins de calcul sans laisser passer de collision ; seules les trajectoires deviennent plus grossières.
+     *
+     * @param frequence Nombre de pas de simulation par seconde.
+     */
+    public void setFrequence(int frequence) {
+        horloge = new SimulationClock(frequence, PAS_MAX_PAR_IMAGE);
+    }
+
+    /**
+     * Change la sortie des effets visuels.
+     *
+     * @param effets Sortie des effets, ou {@link EffectSink#AUCUN}.
+     */
+    public void setEffets(EffectSink effets) {
+        this.effets = effets;
+    }
+
+    /**
+     * Fixe le nombre d'ennemis à partir duquel le pas de simulation est calculé en parallèle.
+     * Le résultat ne dépend pas de ce choix : seule la durée du pas change.
+     *
+     * @param seuilParallele Nombre d'ennemis, ou {@link Integer#MAX_VALUE} pour toujours calculer en séquentiel.
+     */
+    public void setSeuilParallele(int seuilParallele) {
+        this.seuilParallele = seuilParallele;
+    }
+
+    /**
+     * Change l'arme du vaisseau et redimensionne le tampon des projectiles en conséquence.
+     * Cette opération alloue ; elle est réservée au paramétrage de la partie.
+     *
+     * @param arme Nouvelle arme.
+     */
+    public void setArme(Weapon arme) {
+        this.arme = arme;
+        projectiles = new ProjectileRing(capaciteProjectiles());
     }
 
     public void setEnnemisPourNiveau(int ennemisPourNiveau) {
         this.ennemisPourNiveau = ennemisPourNiveau;
     }
 
+    /**
+     * Remplace la génération des vagues par la chronologie d'un niveau, reprise à son début.
+     * Les ennemis présents sont retirés.
+     *
+     * @param vagues Chronologie compilée du niveau, ou null pour revenir aux vagues complétées automatiquement.
+     */
+    public void setTimeline(SpawnTimeline vagues) {
+        this.vagues = vagues;
+        curseurVagues = 0;
+        tempsVagues = 0;
+        ennemis.clear();
+        if (vagues == null) {
+            ajouterVague();
+        }
+    }
+
+    public SpawnTimeline getTimeline() {
+        return vagues;
+    }
+
     public void setVitesseMax(float vitesseMax) {
         this.vitesseMax = vitesseMax;
     }
@@ -255,4 +643,91 @@ public class Play {
     public void setVies(int vies) {
         this.vies = vies;
     }
+
+    /**
+     * Change la graine de la partie, à faire avant de compiler sa chronologie des vagues.
+     *
+     * @param graine Nouvelle graine.
+     */
+    public void setGraine(long graine) {
+        this.graine = graine;
+    }
+
+    public long getGraine() {
+        return graine;
+    }
+
+    public int getEnnemisMax() {
+        return ennemisMax;
+    }
+
+    public int getEnnemisMin() {
+        return ennemisMin;
+    }
+
+    public int getEnnemisPourNiveau() {
+        return ennemisPourNiveau;
+    }
+
+    public float getVitesseMax() {
+        return vitesseMax;
+    }
+
+    public Player getVaisseau() {
+        return vaisseau;
+    }
+
+    public Weapon getArme() {
+        return arme;
+    }
+
+    public ProjectileRing getProjectiles() {
+        return projectiles;
+    }
+
+    public EntityStore getEnnemis() {
+        return ennemis;
+    }
+
+    public WorldBounds getBornes() {
+        return bornes;
+    }
+
+    /**
+     * Retourne la durée d'un pas de simulation.
+     *
+     * @return Durée d'un pas (en secondes).
+     */
+    public float getPas() {
+        return horloge.getPas();
+    }
+
+    /**
+     * Retourne le facteur d'interpolation de l'affichage entre les deux derniers pas de simulation.
+     *
+     * @return Facteur compris entre 0 et 1.
+     */
+    public float getAlpha() {
+        return horloge.getAlpha();
+    }
+
+    public int getVies() {
+        return vies;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getNiveau() {
+        return niveau;
+    }
+
+    public float getInvincibilityTimer() {
+        return invincibilityTimer;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
 }
@@ -0,0 +1,160 @@
+package com.project.game.play;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.project.game.HudText;
+import com.project.game.Main;
+import com.project.game.asset.TextureCache;
+import com.project.game.effect.EffectClip;
+import com.project.game.effect.EffectPool;
+import com.project.game.render.InstancedSpriteRenderer;
+import com.project.game.render.SpriteInstances;
+
+/**
+ * Affichage d'une partie.
+ * Emprunte l'atlas du jeu au cache, utilise les polices du contexte de rendu partagé
+ * et dessine l'état courant de {@link Play}, interpolé entre les deux derniers pas de simulation.
+ * Les ennemis, les projectiles et les effets, les plus nombreux, sont rassemblés dans une liste de sprites
+ * dessinée d'un seul coup par instances ; le vaisseau et les textes passent par le SpriteBatch.
+ */
+public class PlayRenderer {
+
+    /**
+     * Partie affichée.
+     */
+    private final Play play;
+
+    /**
+     * Atlas du jeu : toutes les entités sont dessinées depuis une seule texture, sans vidage du batch entre elles.
+     */
+    private final TextureAtlas atlas;
+
+    /**
+     * Types d'entités : images et affichage des stockages.
+     */
+    private final Projectile typeProjectile;
+    private final Enemy typeEnnemi;
+
+    /**
+     * Image du vaisseau.
+     */
+    private final TextureRegion textureVaisseau;
+
+    /**
+     * Effets visuels de la partie (explosions et éclairs de tir), alimentés par la simulation.
+     */
+    private final EffectPool effets;
+
+    /**
+     * Durées (en secondes) et nombre maximal des effets.
+     */
+    private static final float DUREE_EXPLOSION = 0.6f, DUREE_TIR = 0.08f;
+    private static final int EFFETS_MAX = 256;
+
+    /**
+     * Sprites des ennemis, des projectiles et des effets, remplis à chaque image, et leur affichage partagé.
+     */
+    private final SpriteInstances sprites;
+    private final InstancedSpriteRenderer renduSprites;
+
+    /**
+     * Textes de l'interface : vies, score, niveau, invincibilité, game over et meilleur score.
+     * Leur mise en page n'est recalculée que lorsque la valeur affichée change.
+     */
+    private final HudText texteVies, texteScore, texteNiveau, texteInvincibilite, texteGameOver, texteMeilleur;
+
+    /**
+     * Crée l'affichage d'une partie et emprunte ses ressources.
+     *
+     * @param play        Partie à afficher.
+     * @param police      Police du score, des vies et du niveau, appartenant au contexte de rendu.
+     * @param policeTitre Police du game over, appartenant au contexte de rendu.
+     * @param rendu       Affichage des sprites par instances, appartenant au contexte de rendu.
+     */
+    public PlayRenderer(Play play, BitmapFont police, BitmapFont policeTitre, InstancedSpriteRenderer rendu) {
+        this.play = play;
+        this.renduSprites = rendu;
+        sprites = new SpriteInstances(play.getEnnemis().getCapacite() + play.getProjectiles().getCapacite() + EFFETS_MAX);
+        atlas = Main.getTextureCache().acquireAtlas(TextureCache.ATLAS_JEU);
+        typeProjectile = new Projectile(atlas);
+        typeEnnemi = new Enemy(atlas);
+        textureVaisseau = atlas.findRegion(Player.REGION);
+        effets = new EffectPool(new EffectClip(atlas.findRegion(Enemy.EXPLOSION_REGION), 1, DUREE_EXPLOSION, 1.5f, 3f),
+                new EffectClip(atlas.findRegion(Player.TIR_REGION), 1, DUREE_TIR, 0.3f, 0.4f), EFFETS_MAX);
+        play.setEffets(effets);
+        texteVies = new HudText(police, Color.WHITE, "Lives: ");
+        texteScore = new HudText(police, Color.WHITE, "Score: ");
+        texteNiveau = new HudText(police, Color.WHITE, "Level: ");
+        texteInvincibilite = new HudText(police, Color.WHITE, "Invincibility: ");
+        texteGameOver = new HudText(policeTitre, Color.WHITE, "GAME OVER\nScore: ");
+        texteMeilleur = new HudText(police, Color.WHITE, "Best: ");
+    }
+
+    /**
+     * Fait avancer les effets visuels au rythme de l'affichage.
+     *
+     * @param delta Temps écoulé depuis la dernière image (en secondes).
+     */
+    public void update(float delta) {
+        effets.update(delta);
+    }
+
+    /**
+     * Affiche la partie : les positions sont interpolées entre les deux derniers pas de simulation.
+     *
+     * @param batch SpriteBatch utilisé pour le rendu, déjà démarré.
+     */
+    public void render(SpriteBatch batch) {
+        if (play.isGameOver()) {
+            displayGameOver(batch);
+            return;
+        }
+
+        float alpha = play.getAlpha();
+        Player vaisseau = play.getVaisseau();
+        batch.draw(textureVaisseau, vaisseau.getXInterpole(alpha), vaisseau.getYInterpole(alpha));
+        sprites.clear();
+        typeProjectile.ajouterSprites(sprites, play.getProjectiles(), alpha);
+        typeEnnemi.ajouterSprites(sprites, play.getEnnemis(), alpha);
+        effets.ajouterSprites(sprites);
+        renduSprites.render(batch, sprites);
+
+        float hauteur = play.getBornes().getHauteur();
+        texteVies.setValeur(play.getVies());
+        texteVies.draw(batch, 10, hauteur - 10);
+        texteScore.setValeur(play.getScore());
+        texteScore.draw(batch, 10, hauteur - 40);
+        texteNiveau.setValeur(play.getNiveau());
+        texteNiveau.draw(batch, 10, hauteur - 70);
+        if (play.getInvincibilityTimer() > 0) {
+            texteInvincibilite.setValeur((int) play.getInvincibilityTimer());
+            texteInvincibilite.draw(batch, 10, hauteur - 100);
+        }
+    }
+
+    /**
+     * Affiche le texte du game over et le meilleur score, centrés horizontalement d'après leur largeur mise en page.
+     *
+     * @param batch SpriteBatch utilisé pour rendre le texte.
+     */
+    private void displayGameOver(SpriteBatch batch) {
+        texteGameOver.setValeur(play.getScore());
+        float x = (play.getBornes().getLargeur() - texteGameOver.getLargeur()) / 2;
+        float y = play.getBornes().getHauteur() / 2;
+        texteGameOver.draw(batch, x, y);
+
+        texteMeilleur.setValeur(Main.getHighScores().getMeilleur());
+        x = (play.getBornes().getLargeur() - texteMeilleur.getLargeur()) / 2;
+        texteMeilleur.draw(batch, x, y / 2);
+    }
+
+    /**
+     * Rend l'atlas du jeu au cache.
+     */
+    public void dispose() {
+        Main.getTextureCache().release(TextureCache.ATLAS_JEU);
+    }
+}
@@ -1,44 +1,67 @@
 package com.project.game.play;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.project.game.key.KeyManager;
+import com.project.game.key.Actions;
+import com.project.game.platform.WorldBounds;
 
 /**
- * Représente le joueur dans le jeu, contrôlé par les entrées clavier.
+ * Représente le joueur dans le jeu, contrôlé par les actions du joueur.
  * La classe gère les mouvements du joueur et les limites de l'écran.
  * Elle hérite de la classe {@link Entity}.
  */
 public class Player extends Entity {
 
+    /**
+     * Nom de l'image du vaisseau dans l'atlas du jeu.
+     */
+    static final String REGION = "vaisseau";
+
+    /**
+     * Nom de l'image de l'éclair de tir dans l'atlas du jeu.
+     */
+    static final String TIR_REGION = "muzzleflash";
+
+    /**
+     * Taille du vaisseau (en pixels), identique à celle de sa texture.
+     */
+    static final float LARGEUR = 128, HAUTEUR = 128;
+
     /**
      * Vitesse de déplacement du joueur (en pixels par seconde).
      */
     public float vitesse = 300;
 
     /**
-     * Largeur de l'écran de jeu.
+     * Dimensions du monde, qui bornent les déplacements du joueur.
      */
-    private float largeurEcran, hauteurEcran;
+    private final WorldBounds bornes;
 
     /**
-     * Hauteur de l'écran de jeu.
+     * Actions du joueur pour le pas en cours, fixées par {@link Play} avant chaque mise à jour.
      */
-    KeyManager keys = new KeyManager("assets/key/Keys.json");
+    private int actions;
 
     /**
      * Constructeur de la classe Player.
-     * Initialise la position initiale, charge la texture et configure les dimensions de l'écran.
+     * Initialise la position initiale et les dimensions de l'écran.
+     *
+     * @param bornes Dimensions du monde.
+     */
+    public Player(WorldBounds bornes) {
+        super(550, 50, LARGEUR, HAUTEUR);
+        this.bornes = bornes;
+    }
+
+    /**
+     * Fixe les actions du joueur pour le pas à venir.
+     *
+     * @param actions Masque des actions enfoncées (voir {@link Actions}).
      */
-    public Player() {
-        super(550, 50, "game/vaisseau.png");
-        System.out.println("KeyManager initialisé");
-        largeurEcran = Gdx.graphics.getWidth();
-        hauteurEcran = Gdx.graphics.getHeight();
+    public void setActions(int actions) {
+        this.actions = actions;
     }
 
     /**
-     * Met à jour la position du joueur en fonction des entrées clavier.
+     * Met à jour la position du joueur en fonction de ses actions.
      * Assure que le joueur reste à l'intérieur des limites de l'écran.
      *
      * @param delta Temps écoulé depuis la dernière mise à jour (en secondes).
@@ -46,38 +69,20 @@ public class Player extends Entity {
     @Override
     public void update(float delta)
     {
-        x = keys.mouv_abs(x, vitesse, delta);
-        y = keys.mouv_ord(y, vitesse, delta);
+        memoriserPosition();
+        float distance = vitesse * delta;
+        if ((actions & Actions.GAUCHE) != 0) x -= distance;
+        if ((actions & Actions.DROITE) != 0) x += distance;
+        if ((actions & Actions.HAUT) != 0) y += distance;
+        if ((actions & Actions.BAS) != 0) y -= distance;
 
         // Maintenir le joueur dans les limites de l'écran
+        float largeurEcran = bornes.getLargeur();
+        float hauteurEcran = bornes.getHauteur();
         if (x < 0) x = 0;
-        if (x + texture.getWidth() > largeurEcran) x = largeurEcran - texture.getWidth();
+        if (x + largeur > largeurEcran) x = largeurEcran - largeur;
         if (y < 0) y = 0;
-        if (y + texture.getHeight() > hauteurEcran) y = hauteurEcran - texture.getHeight();
+        if (y + hauteur > hauteurEcran) y = hauteurEcran - hauteur;
 
     }
-
-    /**
-     * Affiche le joueur à l'écran.
-     *
-     * @param batch Instance de {@link SpriteBatch} utilisée pour dessiner la texture.
-     */
-    @Override
-    public void render(SpriteBatch batch) {
-        batch.draw(texture, x, y);
-    }
-
-    /**
-     * Retourne la largeur de la texture du joueur.
-     *
-     * @return Largeur de la texture en pixels.
-     */
-    public float getWidth() { return texture.getWidth(); }
-
-    /**
-     * Retourne la hauteur de la texture du joueur.
-     *
-     * @return Hauteur de la texture en pixels.
-     */
-    public float getHeight() { return texture.getHeight(); }
 }
@@ -1,79 +1,79 @@
 package com.project.game.play;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.project.game.render.SpriteInstances;
 
 /**
- * Représente un projectile dans le jeu.
- * Le projectile se déplace verticalement à une vitesse constante et devient inactif lorsqu'il sort de l'écran.
- * Cette classe hérite de {@link Entity} et doit être mise à jour et rendue à chaque image.
+ * Représente le type "projectile" du jeu.
+ * Les projectiles eux-mêmes sont stockés dans un {@link ProjectileRing} : cette classe regroupe leurs constantes
+ * et leur création, utilisables sans contexte graphique, ainsi que l'image tirée de l'atlas du jeu
+ * et l'affichage de tous les projectiles d'un stockage.
+ * Un projectile se déplace verticalement à une vitesse constante et disparaît lorsqu'il sort de l'écran.
  */
-public class Projectile extends Entity {
+public class Projectile {
+
+    /**
+     * Nom de l'image du projectile dans l'atlas du jeu.
+     */
+    static final String REGION = "projectile";
 
     /**
      * Vitesse verticale constante du projectile (en pixels par seconde).
      */
-    private final float vitesse = 500;
+    static final float VITESSE = 500;
 
     /**
-     * Indique si le projectile est actif.
-     * Un projectile inactif n'est pas mis à jour ni rendu.
+     * Taille de la boîte de collision du projectile (en pixels).
      */
-    private boolean actif = true;
+    static final float TAILLE = 10;
 
     /**
-     * Crée un projectile à une position initiale donnée.
-     *
-     * @param x Coordonnée X initiale du projectile.
-     * @param y Coordonnée Y initiale du projectile.
+     * Décalage horizontal de l'image par rapport à la boîte de collision.
      */
-    public Projectile(float x, float y) {
-        super(x, y, "game/projectile.png");
-    }
+    private static final float DECALAGE_IMAGE = 20;
 
     /**
-     * Met à jour la position du projectile en fonction du temps écoulé.
-     * Le projectile se déplace vers le haut à la vitesse définie.
-     * Si le projectile dépasse les limites de l'écran, il devient inactif.
-     *
-     * @param delta Temps écoulé depuis la dernière mise à jour (en secondes).
+     * Image du projectile.
      */
-    @Override
-    public void update(float delta) {
-        y += vitesse * delta; // Déplace vers le haut
-        if (y > Gdx.graphics.getHeight()) {
-            setInactive(); // Désactiver si hors de l'écran
-        }
-    }
+    private final TextureRegion texture;
 
     /**
-     * Affiche le projectile à l'écran.
-     * Le rendu est effectué uniquement si le projectile est actif.
+     * Constructeur de la classe Projectile.
+     * Récupère l'image du projectile dans l'atlas du jeu.
      *
-     * @param batch Instance de {@link SpriteBatch} utilisée pour dessiner les textures.
+     * @param atlas Atlas du jeu, emprunté par l'appelant.
      */
-    @Override
-    public void render(SpriteBatch batch) {
-        if (actif) {
-            batch.draw(texture, x + 20, y);
-        }
+    public Projectile(TextureAtlas atlas) {
+        texture = atlas.findRegion(REGION);
     }
 
     /**
-     * Vérifie si le projectile est actif.
+     * Ajoute un projectile se déplaçant vers le haut, en remplaçant le plus ancien si le tampon est plein.
      *
-     * @return {@code true} si le projectile est actif, {@code false} sinon.
+     * @param projectiles Tampon des projectiles.
+     * @param x           Coordonnée X initiale du projectile.
+     * @param y           Coordonnée Y initiale du projectile.
+     * @return L'indice du projectile.
      */
-    public boolean isActive() {
-        return actif;
+    public static int spawn(ProjectileRing projectiles, float x, float y) {
+        return projectiles.ajouter(x, y);
     }
 
     /**
-     * Définit le projectile comme inactif.
-     * Un projectile inactif n'est pas mis à jour ni rendu.
+     * Ajoute à la liste des sprites de l'image tous les projectiles du tampon qui n'ont pas encore touché d'ennemi.
+     *
+     * @param sprites     Sprites de l'image.
+     * @param projectiles Tampon des projectiles.
+     * @param alpha       Facteur d'interpolation entre les deux derniers pas de simulation.
      */
-    public void setInactive() {
-        actif = false;
+    public void ajouterSprites(SpriteInstances sprites, ProjectileRing projectiles, float alpha) {
+        byte[] etat = projectiles.etat;
+        for (int k = 0, n = projectiles.size; k < n; k++) {
+            int i = projectiles.indice(k);
+            if (etat[i] == 0) {
+                sprites.ajouter(texture, projectiles.getXInterpole(i, alpha) + DECALAGE_IMAGE, projectiles.getYInterpole(i, alpha));
+            }
+        }
     }
 }
-
@@ -0,0 +1,180 @@
+package com.project.game.play;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Stockage des projectiles en vol, sous forme de tampon circulaire de capacité fixe.
+ * Les projectiles ont tous la même vitesse, plus grande que celle du vaisseau : ils sortent donc de l'écran
+ * dans l'ordre où ils ont été tirés, et le plus ancien se trouve toujours en tête du tampon.
+ * Un tir sur un tampon plein remplace le plus ancien projectile ; le nombre de projectiles,
+ * et donc le coût de leur mise à jour et de leurs collisions, ne dépasse jamais la capacité.
+ * Le projectile de rang {@code k} (0 pour le plus ancien) est rangé à l'indice {@link #indice(int)}.
+ */
+public class ProjectileRing {
+
+    /**
+     * Position de chaque projectile.
+     */
+    float[] x, y;
+
+    /**
+     * Position de chaque projectile au pas de simulation précédent, utilisée pour interpoler l'affichage.
+     */
+    float[] xPrec, yPrec;
+
+    /**
+     * Drapeaux d'état de chaque projectile ({@link EntityStore#DETRUIT} une fois qu'il a touché ou quitté l'écran).
+     */
+    byte[] etat;
+
+    /**
+     * Indice du plus ancien projectile, et nombre de projectiles dans le tampon.
+     */
+    int tete, size;
+
+    /**
+     * Masque appliqué aux indices, la capacité étant une puissance de deux.
+     */
+    private final int masque;
+
+    /**
+     * Crée un tampon pouvant contenir au moins {@code capacite} projectiles.
+     * La capacité est arrondie à la puissance de deux supérieure.
+     *
+     * @param capacite Nombre minimal de projectiles en vol simultanément.
+     */
+    public ProjectileRing(int capacite) {
+        int taille = MathUtils.nextPowerOfTwo(Math.max(capacite, 1));
+        masque = taille - 1;
+        x = new float[taille];
+        y = new float[taille];
+        xPrec = new float[taille];
+        yPrec = new float[taille];
+        etat = new byte[taille];
+    }
+
+    /**
+     * Ajoute un projectile en queue du tampon, en remplaçant le plus ancien si le tampon est plein.
+     *
+     * @param x Position en x.
+     * @param y Position en y.
+     * @return L'indice du nouveau projectile.
+     */
+    public int ajouter(float x, float y) {
+        if (size > masque) {
+            tete = (tete + 1) & masque;
+            size--;
+        }
+        int i = (tete + size++) & masque;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.xPrec[i] = x;
+        this.yPrec[i] = y;
+        this.etat[i] = 0;
+        return i;
+    }
+
+    /**
+     * Retourne l'indice dans les tableaux du projectile de rang {@code k}.
+     *
+     * @param k Rang du projectile, de 0 (le plus ancien) à {@code size - 1}.
+     * @return Indice du projectile.
+     */
+    public int indice(int k) {
+        return (tete + k) & masque;
+    }
+
+    /**
+     * Déplace verticalement tous les projectiles encore actifs.
+     * La position de départ est conservée pour l'interpolation de l'affichage.
+     *
+     * @param dy Déplacement vertical (en pixels).
+     */
+    public void deplacer(float dy) {
+        for (int k = 0; k < size; k++) {
+            int i = (tete + k) & masque;
+            xPrec[i] = x[i];
+            yPrec[i] = y[i];
+            if (etat[i] == 0) {
+                y[i] += dy;
+            }
+        }
+    }
+
+    /**
+     * Désactive les projectiles sortis par le haut de l'écran, puis retire de la tête du tampon
+     * tous les projectiles inactifs. Un projectile inactif plus récent reste en place, ignoré,
+     * jusqu'à ce que ceux qui le précèdent aient été retirés.
+     *
+     * @param hauteurEcran Hauteur du monde (en pixels).
+     */
+    public void retirerInactifs(float hauteurEcran) {
+        for (int k = 0; k < size; k++) {
+            int i = (tete + k) & masque;
+            if (y[i] > hauteurEcran) {
+                etat[i] |= EntityStore.DETRUIT;
+            }
+        }
+        while (size > 0 && etat[tete] != 0) {
+            tete = (tete + 1) & masque;
+            size--;
+        }
+    }
+
+    /**
+     * Marque un projectile comme inactif.
+     *
+     * @param i Indice du projectile.
+     */
+    public void detruire(int i) {
+        etat[i] |= EntityStore.DETRUIT;
+    }
+
+    /**
+     * Retourne la position en x du projectile, interpolée entre les deux derniers pas de simulation.
+     *
+     * @param i     Indice du projectile.
+     * @param alpha Facteur d'interpolation, entre 0 et 1.
+     * @return Position en x à afficher.
+     */
+    public float getXInterpole(int i, float alpha) {
+        return xPrec[i] + (x[i] - xPrec[i]) * alpha;
+    }
+
+    /**
+     * Retourne la position en y du projectile, interpolée entre les deux derniers pas de simulation.
+     *
+     * @param i     Indice du projectile.
+     * @param alpha Facteur d'interpolation, entre 0 et 1.
+     * @return Position en y à afficher.
+     */
+    public float getYInterpole(int i, float alpha) {
+        return yPrec[i] + (y[i] - yPrec[i]) * alpha;
+    }
+
+    /**
+     * Retire tous les projectiles.
+     */
+    public void clear() {
+        tete = 0;
+        size = 0;
+    }
+
+    /**
+     * Retourne le nombre de projectiles dans le tampon, inactifs en attente de retrait compris.
+     *
+     * @return Nombre de projectiles.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retourne la capacité du tampon.
+     *
+     * @return Nombre maximal de projectiles.
+     */
+    public int getCapacite() {
+        return masque + 1;
+    }
+}
@@ -0,0 +1,108 @@
+package com.project.game.play;
+
+/**
+ * Horloge à pas fixe de la simulation.
+ * Le temps réel écoulé entre deux images est accumulé puis découpé en pas de durée constante,
+ * de sorte que la simulation ne dépend ni de la fréquence d'affichage ni des à-coups d'une image.
+ * Le reste de l'accumulateur donne le facteur d'interpolation utilisé pour l'affichage.
+ */
+public class SimulationClock {
+
+    /**
+     * Durée d'un pas de simulation (en secondes).
+     */
+    private final float pas;
+
+    /**
+     * Nombre maximal de pas exécutés pour une seule image ; au-delà, le retard est abandonné.
+     */
+    private final int pasMaxParImage;
+
+    /**
+     * Un delta d'image supérieur à ce facteur fois la moyenne récente est considéré comme un à-coup et plafonné.
+     */
+    private static final float FACTEUR_A_COUP = 4f;
+
+    /**
+     * Poids d'une nouvelle image dans la moyenne glissante des deltas.
+     */
+    private static final float POIDS_MOYENNE = 0.1f;
+
+    /**
+     * Temps réel accumulé et pas encore simulé (en secondes).
+     */
+    private float accumulateur;
+
+    /**
+     * Moyenne glissante des deltas d'image (en secondes).
+     */
+    private float deltaMoyen;
+
+    /**
+     * Crée une horloge à pas fixe.
+     *
+     * @param frequence      Nombre de pas de simulation par seconde.
+     * @param pasMaxParImage Nombre maximal de pas de rattrapage par image.
+     */
+    public SimulationClock(int frequence, int pasMaxParImage) {
+        this.pas = 1f / frequence;
+        this.pasMaxParImage = pasMaxParImage;
+        this.deltaMoyen = pas;
+    }
+
+    /**
+     * Ajoute le temps écoulé depuis la dernière image et retourne le nombre de pas à simuler.
+     * Les à-coups sont plafonnés par rapport à la moyenne récente, et le retard au-delà de
+     * {@code pasMaxParImage} pas est abandonné plutôt que rattrapé.
+     *
+     * @param delta Temps écoulé depuis la dernière image (en secondes).
+     * @return Nombre de pas de simulation à exécuter.
+     */
+    public int avancer(float delta) {
+        if (delta < 0) {
+            delta = 0;
+        }
+        float plafond = Math.max(deltaMoyen * FACTEUR_A_COUP, pas);
+        if (delta > plafond) {
+            delta = plafond;
+        }
+        deltaMoyen += (delta - deltaMoyen) * POIDS_MOYENNE;
+
+        accumulateur += delta;
+        int nombre = (int) (accumulateur / pas);
+        if (nombre > pasMaxParImage) {
+            nombre = pasMaxParImage;
+            accumulateur = 0;
+        } else {
+            accumulateur -= nombre * pas;
+        }
+        return nombre;
+    }
+
+    /**
+     * Retourne la durée d'un pas de simulation.
+     *
+     * @return Durée d'un pas (en secondes).
+     */
+    public float getPas() {
+        return pas;
+    }
+
+    /**
+     * Retourne la fraction de pas écoulée depuis le dernier pas simulé, entre 0 et 1.
+     * L'affichage interpole les positions entre les deux derniers états avec ce facteur.
+     *
+     * @return Facteur d'interpolation.
+     */
+    public float getAlpha() {
+        return accumulateur / pas;
+    }
+
+    /**
+     * Vide l'accumulateur, par exemple après une pause.
+     */
+    public void reset() {
+        accumulateur = 0;
+        deltaMoyen = pas;
+    }
+}
@@ -0,0 +1,273 @@
+package com.project.game.play;
+
+import java.util.Arrays;
+
+/**
+ * Grille uniforme utilisée comme première passe (broadphase) de la détection de collisions.
+ * Chaque entité est rangée dans la cellule qui contient son coin inférieur gauche ; une requête parcourt
+ * les cellules couvertes par la zone recherchée, élargie de la taille de la plus grande entité insérée.
+ * Les cellules sont des listes chaînées stockées dans des tableaux d'entiers : ni l'insertion
+ * ni la requête n'allouent de mémoire.
+ * Les positions hors de la grille sont ramenées sur ses bords, ce qui reste correct mais moins sélectif.
+ * L'insertion peut aussi être répartie entre plusieurs fils, par lots ({@link #preparerLots}) :
+ * le résultat des requêtes est alors le même, dans le même ordre, qu'après une insertion séquentielle.
+ */
+public class SpatialHash {
+
+    /**
+     * Taille d'une cellule (en pixels).
+     */
+    private final float tailleCellule;
+
+    /**
+     * Dimensions de la grille (en cellules).
+     */
+    private final int colonnes, lignes;
+
+    /**
+     * Premier élément de chaque cellule, -1 si la cellule est vide.
+     */
+    private final int[] tete;
+
+    /**
+     * Élément suivant dans la même cellule, -1 en fin de liste.
+     */
+    private int[] suivant;
+
+    /**
+     * Identifiant de chaque élément inséré.
+     */
+    private int[] identifiants;
+
+    /**
+     * Nombre d'éléments insérés depuis le dernier {@link #clear()}.
+     */
+    private int taille;
+
+    /**
+     * Dimensions de la plus grande entité insérée, utilisées pour élargir les requêtes.
+     */
+    private float largeurMax, hauteurMax;
+
+    /**
+     * Listes partielles de chaque lot, réutilisées d'une insertion par lots à l'autre, et nombre de lots utilisés.
+     */
+    private Lot[] lots = new Lot[0];
+    private int nombreLots;
+
+    /**
+     * Crée une grille couvrant la zone de jeu.
+     *
+     * @param largeur       Largeur de la zone couverte (en pixels).
+     * @param hauteur       Hauteur de la zone couverte (en pixels).
+     * @param tailleCellule Taille d'une cellule (en pixels).
+     * @param capacite      Nombre d'éléments pouvant être insérés sans agrandissement.
+     */
+    public SpatialHash(float largeur, float hauteur, float tailleCellule, int capacite) {
+        this.tailleCellule = tailleCellule;
+        this.colonnes = Math.max(1, (int) Math.ceil(largeur / tailleCellule));
+        this.lignes = Math.max(1, (int) Math.ceil(hauteur / tailleCellule));
+        this.tete = new int[colonnes * lignes];
+        Arrays.fill(tete, -1);
+        suivant = new int[0];
+        identifiants = new int[0];
+        reserver(capacite);
+    }
+
+    /**
+     * Agrandit les tableaux internes pour accueillir au moins {@code capacite} éléments.
+     *
+     * @param capacite Nombre d'éléments souhaité.
+     */
+    public void reserver(int capacite) {
+        if (capacite <= suivant.length) {
+            return;
+        }
+        suivant = Arrays.copyOf(suivant, capacite);
+        identifiants = Arrays.copyOf(identifiants, capacite);
+    }
+
+    /**
+     * Vide la grille avant une nouvelle insertion de toutes les entités.
+     */
+    public void clear() {
+        Arrays.fill(tete, -1);
+        taille = 0;
+        largeurMax = 0;
+        hauteurMax = 0;
+    }
+
+    /**
+     * Insère une entité dans la grille.
+     *
+     * @param identifiant Identifiant de l'entité, renvoyé par {@link #query}.
+     * @param x           Position en x de l'entité.
+     * @param y           Position en y de l'entité.
+     * @param largeur     Largeur de l'entité.
+     * @param hauteur     Hauteur de l'entité.
+     */
+    public void insert(int identifiant, float x, float y, float largeur, float hauteur) {
+        if (taille == suivant.length) {
+            reserver(Math.max(16, taille * 2));
+        }
+        int cellule = cellule(colonne(x), ligne(y));
+        identifiants[taille] = identifiant;
+        suivant[taille] = tete[cellule];
+        tete[cellule] = taille;
+        taille++;
+        if (largeur > largeurMax) largeurMax = largeur;
+        if (hauteur > hauteurMax) hauteurMax = hauteur;
+    }
+
+    /**
+     * Prépare une insertion par lots et vide la grille. Chaque lot construit ses propres listes par cellule
+     * ({@link #insererDansLot}), éventuellement sur un fil différent, puis {@link #fusionnerLots()} les enchaîne.
+     * Les entités doivent être réparties entre les lots dans l'ordre : celles du lot {@code k} avant celles du lot
+     * {@code k + 1}, comme si elles avaient été insérées une à une.
+     *
+     * @param nombre   Nombre de lots.
+     * @param capacite Nombre d'emplacements utilisés par l'ensemble des lots.
+     */
+    public void preparerLots(int nombre, int capacite) {
+        reserver(capacite);
+        if (lots.length < nombre) {
+            Lot[] agrandi = Arrays.copyOf(lots, nombre);
+            for (int k = lots.length; k < nombre; k++) {
+                agrandi[k] = new Lot(tete.length);
+            }
+            lots = agrandi;
+        }
+        for (int k = 0; k < nombre; k++) {
+            lots[k].vider();
+        }
+        nombreLots = nombre;
+    }
+
+    /**
+     * Insère une entité dans un lot. Peut être appelée en même temps depuis plusieurs fils pour des lots différents,
+     * à condition que chaque emplacement ne soit utilisé que par un seul lot.
+     *
+     * @param lot         Numéro du lot.
+     * @param emplacement Emplacement réservé à l'entité, inférieur à la capacité donnée à {@link #preparerLots}.
+     * @param identifiant Identifiant de l'entité, renvoyé par {@link #query}.
+     * @param x           Position en x de l'entité.
+     * @param y           Position en y de l'entité.
+     * @param largeur     Largeur de l'entité.
+     * @param hauteur     Hauteur de l'entité.
+     */
+    public void insererDansLot(int lot, int emplacement, int identifiant, float x, float y, float largeur, float hauteur) {
+        Lot l = lots[lot];
+        int cellule = cellule(colonne(x), ligne(y));
+        identifiants[emplacement] = identifiant;
+        suivant[emplacement] = l.tete[cellule];
+        if (l.tete[cellule] == -1) {
+            l.queue[cellule] = emplacement;
+        }
+        l.tete[cellule] = emplacement;
+        l.taille++;
+        if (largeur > l.largeurMax) l.largeurMax = largeur;
+        if (hauteur > l.hauteurMax) l.hauteurMax = hauteur;
+    }
+
+    /**
+     * Enchaîne les listes des lots dans chaque cellule, une fois tous les lots remplis.
+     * Comme une liste se parcourt de la dernière entité insérée à la première, la liste du dernier lot vient en tête.
+     * Les emplacements n'étant plus contigus, {@link #insert} ne doit pas être appelée avant le prochain {@link #clear()}.
+     */
+    public void fusionnerLots() {
+        for (int c = 0; c < tete.length; c++) {
+            int premier = -1;
+            for (int k = 0; k < nombreLots; k++) {
+                Lot l = lots[k];
+                if (l.tete[c] != -1) {
+                    suivant[l.queue[c]] = premier;
+                    premier = l.tete[c];
+                }
+            }
+            tete[c] = premier;
+        }
+        taille = 0;
+        largeurMax = 0;
+        hauteurMax = 0;
+        for (int k = 0; k < nombreLots; k++) {
+            Lot l = lots[k];
+            taille += l.taille;
+            if (l.largeurMax > largeurMax) largeurMax = l.largeurMax;
+            if (l.hauteurMax > hauteurMax) hauteurMax = l.hauteurMax;
+        }
+    }
+
+    /**
+     * Recherche les entités susceptibles de chevaucher la zone donnée.
+     * Seules les cellules voisines sont parcourues ; le test exact reste à la charge de l'appelant.
+     *
+     * @param x         Position en x de la zone.
+     * @param y         Position en y de la zone.
+     * @param largeur   Largeur de la zone.
+     * @param hauteur   Hauteur de la zone.
+     * @param resultats Tableau recevant les identifiants trouvés.
+     * @return Nombre d'identifiants écrits dans {@code resultats} (tronqué à sa longueur).
+     */
+    public int query(float x, float y, float largeur, float hauteur, int[] resultats) {
+        int colonneMin = colonne(x - largeurMax);
+        int colonneMax = colonne(x + largeur);
+        int ligneMin = ligne(y - hauteurMax);
+        int ligneMax = ligne(y + hauteur);
+        int trouves = 0;
+
+        for (int l = ligneMin; l <= ligneMax; l++) {
+            for (int c = colonneMin; c <= colonneMax; c++) {
+                for (int e = tete[cellule(c, l)]; e != -1; e = suivant[e]) {
+                    if (trouves == resultats.length) {
+                        return trouves;
+                    }
+                    resultats[trouves++] = identifiants[e];
+                }
+            }
+        }
+        return trouves;
+    }
+
+    /**
+     * Retourne le nombre d'éléments insérés.
+     *
+     * @return Nombre d'éléments dans la grille.
+     */
+    public int size() {
+        return taille;
+    }
+
+    private int colonne(float x) {
+        return Math.min(colonnes - 1, Math.max(0, (int) Math.floor(x / tailleCellule)));
+    }
+
+    private int ligne(float y) {
+        return Math.min(lignes - 1, Math.max(0, (int) Math.floor(y / tailleCellule)));
+    }
+
+    private int cellule(int colonne, int ligne) {
+        return ligne * colonnes + colonne;
+    }
+
+    /**
+     * Listes par cellule d'un lot : premier et dernier élément de chaque cellule, nombre d'éléments
+     * et dimensions de la plus grande entité du lot.
+     */
+    private static class Lot {
+        final int[] tete, queue;
+        int taille;
+        float largeurMax, hauteurMax;
+
+        Lot(int cellules) {
+            tete = new int[cellules];
+            queue = new int[cellules];
+        }
+
+        void vider() {
+            Arrays.fill(tete, -1);
+            taille = 0;
+            largeurMax = 0;
+            hauteurMax = 0;
+        }
+    }
+}
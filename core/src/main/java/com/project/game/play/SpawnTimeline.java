@@ -0,0 +1,196 @@
+package com.project.game.play;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Chronologie des apparitions d'ennemis d'un niveau, compilée à partir d'un {@link WaveFile}.
+ * Chaque apparition est décrite par son instant, sa position et sa vitesse, rangés dans des tableaux
+ * de types primitifs triés par instant. {@link Play} la parcourt avec un curseur : un pas ne traite
+ * que les apparitions qui lui échoient, quel que soit le nombre total d'apparitions du niveau.
+ * La chronologie ne change plus après sa compilation et peut être partagée entre plusieurs parties.
+ */
+public class SpawnTimeline {
+
+    /**
+     * Instants, positions et vitesses des apparitions, triés par instant.
+     */
+    final float[] temps, x, y, vitesse;
+
+    /**
+     * Durée du niveau, reprise s'il boucle.
+     */
+    final float duree;
+
+    /**
+     * Indique si le niveau recommence une fois terminé.
+     */
+    final boolean boucle;
+
+    /**
+     * Vitesse ajoutée aux ennemis à chaque niveau gagné.
+     */
+    final float bonusVitesseParNiveau;
+
+    private SpawnTimeline(float[] temps, float[] x, float[] y, float[] vitesse, float duree, boolean boucle,
+                          float bonusVitesseParNiveau) {
+        this.temps = temps;
+        this.x = x;
+        this.y = y;
+        this.vitesse = vitesse;
+        this.duree = duree;
+        this.boucle = boucle;
+        this.bonusVitesseParNiveau = bonusVitesseParNiveau;
+    }
+
+    /**
+     * Compile un niveau : développe chaque vague selon son motif, puis trie toutes les apparitions par instant.
+     * Les motifs aléatoires utilisent le générateur donné : avec la graine de la partie,
+     * la chronologie est donc la même à chaque relecture.
+     *
+     * @param fichier   Description du niveau.
+     * @param aleatoire Générateur pseudo-aléatoire de la partie.
+     * @param largeur   Largeur du monde.
+     * @param hauteur   Hauteur du monde.
+     * @return La chronologie compilée.
+     * @throws IllegalArgumentException Si une vague est invalide (motif inconnu, nombre ou instant négatif).
+     */
+    public static SpawnTimeline compiler(WaveFile fichier, RandomXS128 aleatoire, float largeur, float hauteur) {
+        WaveFile.Vague[] vagues = fichier.vagues != null ? fichier.vagues : new WaveFile.Vague[0];
+        int total = 0;
+        for (WaveFile.Vague vague : vagues) {
+            if (vague.nombre < 0 || vague.temps < 0 || vague.intervalle < 0) {
+                throw new IllegalArgumentException("Vague invalide à " + vague.temps + " s");
+            }
+            total += vague.nombre;
+        }
+
+        float[] t = new float[total], px = new float[total], py = new float[total], v = new float[total];
+        int n = 0;
+        for (WaveFile.Vague vague : vagues) {
+            float debut = Math.max(0, Math.min(vague.x, largeur - Enemy.LARGEUR));
+            float etendue = vague.largeur > 0 ? vague.largeur : largeur - debut;
+            // Espace disponible pour le coin gauche des ennemis
+            float place = Math.max(0, Math.min(etendue, largeur - debut) - Enemy.LARGEUR);
+            int nombre = vague.nombre;
+            String motif = vague.motif != null ? vague.motif : "ligne";
+            for (int i = 0; i < nombre; i++) {
+                float fraction = nombre > 1 ? (float) i / (nombre - 1) : 0.5f;
+                float instant;
+                float position = debut + place * fraction;
+                switch (motif) {
+                    case "ligne":
+                        instant = vague.temps;
+                        break;
+                    case "colonne":
+                        instant = vague.temps + i * vague.intervalle;
+                        position = debut;
+                        break;
+                    case "diagonale":
+                        instant = vague.temps + i * vague.intervalle;
+                        break;
+                    case "v":
+                        instant = vague.temps + Math.abs(i - (nombre - 1) / 2f) * vague.intervalle;
+                        break;
+                    case "aleatoire":
+                        instant = vague.temps + aleatoire.nextFloat() * nombre * vague.intervalle;
+                        position = debut + aleatoire.nextFloat() * place;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Motif de vague inconnu : " + motif);
+                }
+                t[n] = instant;
+                px[n] = position;
+                py[n] = hauteur + vague.y;
+                v[n] = vague.vitesse;
+                n++;
+            }
+        }
+
+        // Tri par instant : pour des flottants positifs, l'ordre des bits est celui des valeurs,
+        // et l'indice dans les poids faibles garde l'ordre du fichier pour les apparitions simultanées
+        long[] cles = new long[total];
+        for (int i = 0; i < total; i++) {
+            cles[i] = ((long) Float.floatToIntBits(t[i]) << 32) | i;
+        }
+        Arrays.sort(cles);
+        float[] temps = new float[total], x = new float[total], y = new float[total], vitesse = new float[total];
+        for (int k = 0; k < total; k++) {
+            int i = (int) cles[k];
+            temps[k] = t[i];
+            x[k] = px[i];
+            y[k] = py[i];
+            vitesse[k] = v[i];
+        }
+
+        float fin = total > 0 ? temps[total - 1] : 0;
+        float duree = Math.max(fichier.duree, fin);
+        // Un niveau qui boucle doit durer : sinon toutes ses apparitions se répéteraient au même pas
+        boolean boucle = fichier.boucle && duree > 0;
+        return new SpawnTimeline(temps, x, y, vitesse, duree, boucle, fichier.bonusVitesseParNiveau);
+    }
+
+    /**
+     * Retourne le nombre d'apparitions d'un passage du niveau.
+     *
+     * @return Nombre d'apparitions.
+     */
+    public int size() {
+        return temps.length;
+    }
+
+    public float getDuree() {
+        return duree;
+    }
+
+    /**
+     * Écrit la chronologie compilée (pour l'enregistrement d'une partie).
+     *
+     * @param out Flux de destination.
+     * @throws IOException En cas d'erreur d'écriture.
+     */
+    public void ecrire(DataOutputStream out) throws IOException {
+        out.writeFloat(duree);
+        out.writeBoolean(boucle);
+        out.writeFloat(bonusVitesseParNiveau);
+        out.writeInt(temps.length);
+        for (int i = 0; i < temps.length; i++) {
+            out.writeFloat(temps[i]);
+            out.writeFloat(x[i]);
+            out.writeFloat(y[i]);
+            out.writeFloat(vitesse[i]);
+        }
+    }
+
+    /**
+     * Lit une chronologie écrite par {@link #ecrire(DataOutputStream)}.
+     *
+     * @param in Flux source.
+     * @return La chronologie lue.
+     * @throws IOException En cas d'erreur de lecture ou de données invalides.
+     */
+    public static SpawnTimeline lire(DataInputStream in) throws IOException {
+        float duree = in.readFloat();
+        boolean boucle = in.readBoolean();
+        float bonus = in.readFloat();
+        int n = in.readInt();
+        if (n < 0) {
+            throw new IOException("Chronologie corrompue");
+        }
+        float[] temps = new float[n], x = new float[n], y = new float[n], vitesse = new float[n];
+        for (int i = 0; i < n; i++) {
+            temps[i] = in.readFloat();
+            x[i] = in.readFloat();
+            y[i] = in.readFloat();
+            vitesse[i] = in.readFloat();
+            if (i > 0 && temps[i] < temps[i - 1]) {
+                throw new IOException("Chronologie corrompue");
+            }
+        }
+        return new SpawnTimeline(temps, x, y, vitesse, duree, boucle, bonus);
+    }
+}
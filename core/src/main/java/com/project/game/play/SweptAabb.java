@@ -0,0 +1,56 @@
+package com.project.game.play;
+
+/**
+ * Détection de collisions continue entre boîtes alignées sur les axes.
+ * Pendant un pas, chaque boîte se déplace en ligne droite de sa position précédente à sa position courante ;
+ * l'instant du premier contact est calculé sur le mouvement relatif des deux boîtes, axe par axe.
+ * Contrairement à un test de chevauchement en fin de pas, une entité rapide ne peut donc pas traverser
+ * sa cible entre deux pas, quelle que soit la durée du pas.
+ */
+final class SweptAabb {
+
+    /**
+     * Valeur renvoyée lorsque les boîtes ne se touchent pas pendant le pas.
+     */
+    static final float AUCUN_CONTACT = -1;
+
+    private SweptAabb() {
+    }
+
+    /**
+     * Calcule l'instant du premier chevauchement de deux boîtes en mouvement pendant un pas.
+     * Les bords ne comptent pas, comme dans {@link Play#checkCollision} : des boîtes qui chevauchent en fin de pas
+     * se touchent toujours, au plus tard à l'instant 1.
+     *
+     * @param ax, ay, adx, ady, al, ah Position au début du pas, déplacement pendant le pas et taille de la première boîte.
+     * @param bx, by, bdx, bdy, bl, bh Position au début du pas, déplacement pendant le pas et taille de la seconde boîte.
+     * @return Instant du premier contact en fraction du pas (0 si les boîtes chevauchent déjà au début du pas),
+     *         ou {@link #AUCUN_CONTACT}.
+     */
+    static float instantContact(float ax, float ay, float adx, float ady, float al, float ah,
+                                float bx, float by, float bdx, float bdy, float bl, float bh) {
+        float dx = adx - bdx, dy = ady - bdy;
+        float entree = Float.NEGATIVE_INFINITY, sortie = Float.POSITIVE_INFINITY;
+
+        // Sur chaque axe, les boîtes chevauchent pendant l'intervalle ouvert (t1, t2)
+        if (dx == 0) {
+            if (ax >= bx + bl || ax + al <= bx) return AUCUN_CONTACT;
+        } else {
+            float t1 = (bx - ax - al) / dx, t2 = (bx + bl - ax) / dx;
+            entree = Math.min(t1, t2);
+            sortie = Math.max(t1, t2);
+        }
+        if (dy == 0) {
+            if (ay >= by + bh || ay + ah <= by) return AUCUN_CONTACT;
+        } else {
+            float t1 = (by - ay - ah) / dy, t2 = (by + bh - ay) / dy;
+            entree = Math.max(entree, Math.min(t1, t2));
+            sortie = Math.min(sortie, Math.max(t1, t2));
+        }
+
+        if (entree >= sortie || entree >= 1 || sortie <= 0) {
+            return AUCUN_CONTACT;
+        }
+        return Math.max(entree, 0);
+    }
+}
@@ -0,0 +1,102 @@
+package com.project.game.play;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.Reader;
+
+/**
+ * Description d'un niveau sous forme de vagues d'ennemis, lue depuis un fichier JSON avec Gson
+ * (voir {@code assets/waves}). Elle n'est pas utilisée telle quelle par la simulation :
+ * {@link SpawnTimeline#compiler} la transforme en une chronologie d'apparitions triée.
+ * <p>
+ * Les temps sont en secondes depuis le début du niveau, les positions en pixels et les vitesses en pixels par seconde.
+ */
+public class WaveFile {
+
+    /**
+     * Durée du niveau : s'il boucle, la chronologie recommence après cette durée.
+     * Si elle est nulle, la durée est celle de la dernière apparition.
+     */
+    float duree;
+
+    /**
+     * Indique si le niveau recommence une fois terminé.
+     */
+    boolean boucle = true;
+
+    /**
+     * Vitesse ajoutée aux ennemis à chaque niveau gagné (en pixels par seconde).
+     */
+    float bonusVitesseParNiveau = 0.5f;
+
+    /**
+     * Vagues du niveau, dans un ordre quelconque. Une apparition est perdue si le nombre maximal
+     * d'ennemis de la partie est déjà atteint.
+     */
+    Vague[] vagues = new Vague[0];
+
+    /**
+     * Lit la description d'un niveau.
+     *
+     * @param lecteur Texte JSON du niveau.
+     * @return Le niveau lu.
+     * @throws JsonParseException Si le texte n'est pas une description de niveau valide.
+     */
+    public static WaveFile lire(Reader lecteur) {
+        WaveFile fichier = new Gson().fromJson(lecteur, WaveFile.class);
+        if (fichier == null) {
+            throw new JsonParseException("Description de niveau vide");
+        }
+        return fichier;
+    }
+
+    /**
+     * Une vague : un groupe d'ennemis disposés selon un motif.
+     * <ul>
+     *   <li>{@code ligne} : {@code nombre} ennemis répartis sur la largeur, tous au même instant ;</li>
+     *   <li>{@code colonne} : {@code nombre} ennemis à la position {@code x}, un toutes les {@code intervalle} secondes ;</li>
+     *   <li>{@code diagonale} : répartis sur la largeur, chacun {@code intervalle} secondes après le précédent ;</li>
+     *   <li>{@code v} : répartis sur la largeur, le centre d'abord puis les côtés, {@code intervalle} secondes plus tard à chaque rang ;</li>
+     *   <li>{@code aleatoire} : positions et instants tirés au hasard sur la largeur et sur {@code nombre * intervalle} secondes.</li>
+     * </ul>
+     */
+    static class Vague {
+
+        /**
+         * Instant de la première apparition.
+         */
+        float temps;
+
+        /**
+         * Motif de la vague.
+         */
+        String motif = "ligne";
+
+        /**
+         * Nombre d'ennemis.
+         */
+        int nombre = 1;
+
+        /**
+         * Zone horizontale couverte par la vague : début, et largeur (0 pour toute la largeur restante du monde).
+         */
+        float x;
+        float largeur;
+
+        /**
+         * Hauteur d'apparition, au-dessus du haut du monde.
+         */
+        float y;
+
+        /**
+         * Vitesse de descente des ennemis.
+         */
+        float vitesse = Enemy.VITESSE_BASE;
+
+        /**
+         * Écart entre deux apparitions successives de la vague (en secondes).
+         */
+        float intervalle = 0.5f;
+    }
+}
@@ -0,0 +1,118 @@
+package com.project.game.play;
+
+/**
+ * Arme du vaisseau : cadence de tir et mode rafale.
+ * Tant que la gâchette est maintenue, l'arme tire une rafale de {@code rafale} projectiles espacés de
+ * {@code intervalleRafale} secondes, puis attend {@code intervalle} secondes avant la rafale suivante.
+ * Une rafale commencée est toujours terminée. Avec une rafale d'un seul projectile, l'arme tire simplement
+ * toutes les {@code intervalle} secondes, quelle que soit la fréquence d'affichage.
+ */
+public class Weapon {
+
+    /**
+     * Intervalle entre deux rafales (en secondes).
+     */
+    private final float intervalle;
+
+    /**
+     * Nombre de projectiles par rafale.
+     */
+    private final int rafale;
+
+    /**
+     * Intervalle entre deux projectiles d'une même rafale (en secondes).
+     */
+    private final float intervalleRafale;
+
+    /**
+     * Temps restant avant le prochain tir possible (en secondes).
+     */
+    private float attente;
+
+    /**
+     * Nombre de projectiles restant à tirer dans la rafale en cours.
+     */
+    private int tirsRestants;
+
+    /**
+     * Crée une arme tirant un projectile à chaque intervalle.
+     *
+     * @param intervalle Intervalle entre deux tirs (en secondes).
+     */
+    public Weapon(float intervalle) {
+        this(intervalle, 1, 0);
+    }
+
+    /**
+     * Crée une arme tirant par rafales.
+     *
+     * @param intervalle       Intervalle entre deux rafales (en secondes).
+     * @param rafale           Nombre de projectiles par rafale.
+     * @param intervalleRafale Intervalle entre deux projectiles d'une même rafale (en secondes).
+     */
+    public Weapon(float intervalle, int rafale, float intervalleRafale) {
+        if (intervalle <= 0 || rafale < 1 || intervalleRafale < 0) {
+            throw new IllegalArgumentException("Paramètres d'arme invalides");
+        }
+        this.intervalle = intervalle;
+        this.rafale = rafale;
+        this.intervalleRafale = intervalleRafale;
+    }
+
+    /**
+     * Fait avancer l'arme d'un pas de simulation.
+     * Le reste d'attente est reporté d'un tir à l'autre, ce qui garde une cadence exacte
+     * même lorsque l'intervalle n'est pas un multiple du pas.
+     *
+     * @param delta    Durée du pas (en secondes).
+     * @param gachette true si le joueur maintient la touche de tir.
+     * @return true si un projectile doit partir pendant ce pas.
+     */
+    public boolean update(float delta, boolean gachette) {
+        attente -= delta;
+        if (attente > 0) {
+            return false;
+        }
+        if (tirsRestants == 0) {
+            if (!gachette) {
+                attente = 0;
+                return false;
+            }
+            tirsRestants = rafale;
+        }
+        tirsRestants--;
+        attente += tirsRestants > 0 ? intervalleRafale : intervalle;
+        return true;
+    }
+
+    /**
+     * Calcule le nombre maximal de projectiles tirés par cette arme pouvant être en vol simultanément.
+     *
+     * @param dureeVol Durée de vol maximale d'un projectile (en secondes).
+     * @return Nombre maximal de projectiles en vol.
+     */
+    public int maxEnVol(float dureeVol) {
+        float cycle = intervalle + (rafale - 1) * intervalleRafale;
+        return ((int) Math.ceil(dureeVol / cycle) + 1) * rafale;
+    }
+
+    public float getIntervalle() {
+        return intervalle;
+    }
+
+    public int getRafale() {
+        return rafale;
+    }
+
+    public float getIntervalleRafale() {
+        return intervalleRafale;
+    }
+
+    /**
+     * Remet l'arme à l'état de repos, prête à tirer.
+     */
+    public void reset() {
+        attente = 0;
+        tirsRestants = 0;
+    }
+}
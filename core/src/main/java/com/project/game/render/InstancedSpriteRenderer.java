@@ -0,0 +1,225 @@
+package com.project.game.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.project.game.platform.GpuInstancing;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Affichage de nombreux sprites en un seul appel de dessin instancié.
+ * Un quadrilatère unité est dessiné une fois par sprite ; la position, la taille, les coordonnées de texture
+ * et la couleur de chaque sprite sont lues dans un tampon d'instances, rempli d'une seule copie par image
+ * depuis les données hors du tas d'une {@link SpriteInstances}. Le processeur n'écrit donc aucun sommet.
+ * <p>
+ * Si le contexte graphique ne permet pas le dessin instancié (ou si le shader ne compile pas),
+ * les mêmes sprites sont dessinés avec le SpriteBatch, avec un résultat identique à l'écran.
+ * Les ressources graphiques sont créées au premier affichage.
+ */
+public class InstancedSpriteRenderer {
+
+    private static final String VERTEX_SHADER =
+            "attribute vec2 a_coin;\n"
+            + "attribute vec4 a_rectangle;\n"
+            + "attribute vec4 a_region;\n"
+            + "attribute vec4 a_couleur;\n"
+            + "uniform mat4 u_projTrans;\n"
+            + "varying vec4 v_couleur;\n"
+            + "varying vec2 v_texCoords;\n"
+            + "void main() {\n"
+            + "  v_couleur = a_couleur;\n"
+            + "  v_couleur.a = v_couleur.a * (255.0 / 254.0);\n"
+            + "  v_texCoords = mix(a_region.xy, a_region.zw, a_coin);\n"
+            + "  gl_Position = u_projTrans * vec4(a_rectangle.xy + a_coin * a_rectangle.zw, 0.0, 1.0);\n"
+            + "}\n";
+
+    private static final String FRAGMENT_SHADER =
+            "#ifdef GL_ES\n"
+            + "precision mediump float;\n"
+            + "#endif\n"
+            + "varying vec4 v_couleur;\n"
+            + "varying vec2 v_texCoords;\n"
+            + "uniform sampler2D u_texture;\n"
+            + "void main() {\n"
+            + "  gl_FragColor = v_couleur * texture2D(u_texture, v_texCoords);\n"
+            + "}\n";
+
+    /**
+     * Taille d'une instance dans le tampon (en octets).
+     */
+    private static final int TAILLE_INSTANCE = SpriteInstances.FLOTTANTS * 4;
+
+    /**
+     * Appels de dessin instancié de la plateforme.
+     */
+    private final GpuInstancing instancing;
+
+    /**
+     * Shader, tampon du quadrilatère unité et tampon des instances, créés au premier affichage.
+     */
+    private ShaderProgram shader;
+    private int tamponCoins, tamponInstances;
+
+    /**
+     * Emplacements des attributs du shader.
+     */
+    private int coin, rectangle, region, couleur;
+
+    /**
+     * Indique si le dessin instancié a été testé, et s'il est utilisé.
+     */
+    private boolean initialise, instancie;
+
+    /**
+     * Crée l'affichage, sans ressource graphique.
+     *
+     * @param instancing Appels de dessin instancié, ou {@link GpuInstancing#AUCUN} pour toujours utiliser le SpriteBatch.
+     */
+    public InstancedSpriteRenderer(GpuInstancing instancing) {
+        this.instancing = instancing;
+    }
+
+    /**
+     * Dessine les sprites de la liste, par-dessus ce que le batch a déjà dessiné.
+     * Le batch est interrompu le temps du dessin instancié puis redémarré.
+     *
+     * @param batch     SpriteBatch en cours de dessin, dont la matrice de projection est utilisée.
+     * @param instances Sprites à dessiner.
+     */
+    public void render(SpriteBatch batch, SpriteInstances instances) {
+        int n = instances.size();
+        if (n == 0) {
+            return;
+        }
+        if (!initialise) {
+            initialiser();
+        }
+        if (!instancie) {
+            dessinerAvecBatch(batch, instances);
+            return;
+        }
+
+        batch.end();
+        GL20 gl = Gdx.gl20;
+        gl.glEnable(GL20.GL_BLEND);
+        gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", batch.getProjectionMatrix());
+        shader.setUniformi("u_texture", 0);
+        instances.getTexture().bind(0);
+
+        gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, tamponCoins);
+        gl.glEnableVertexAttribArray(coin);
+        gl.glVertexAttribPointer(coin, 2, GL20.GL_FLOAT, false, 0, 0);
+
+        // Une seule copie des instances vers la carte graphique ; le tampon précédent est abandonné au pilote
+        FloatBuffer donnees = instances.getDonnees();
+        gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, tamponInstances);
+        gl.glBufferData(GL20.GL_ARRAY_BUFFER, n * TAILLE_INSTANCE, donnees, GL20.GL_STREAM_DRAW);
+        activerInstance(rectangle, 4, GL20.GL_FLOAT, false, 0);
+        activerInstance(region, 4, GL20.GL_FLOAT, false, 16);
+        activerInstance(couleur, 4, GL20.GL_UNSIGNED_BYTE, true, 32);
+
+        instancing.dessiner(GL20.GL_TRIANGLE_STRIP, 0, 4, n);
+
+        // Le SpriteBatch suppose des attributs lus à chaque sommet et aucun tampon lié
+        desactiverInstance(rectangle);
+        desactiverInstance(region);
+        desactiverInstance(couleur);
+        gl.glDisableVertexAttribArray(coin);
+        gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+        batch.begin();
+    }
+
+    /**
+     * Active un attribut lu une fois par instance dans le tampon des instances.
+     */
+    private void activerInstance(int attribut, int taille, int type, boolean normalise, int decalage) {
+        Gdx.gl20.glEnableVertexAttribArray(attribut);
+        Gdx.gl20.glVertexAttribPointer(attribut, taille, type, normalise, TAILLE_INSTANCE, decalage);
+        instancing.setDiviseur(attribut, 1);
+    }
+
+    /**
+     * Remet un attribut d'instance dans l'état attendu par les autres dessins.
+     */
+    private void desactiverInstance(int attribut) {
+        instancing.setDiviseur(attribut, 0);
+        Gdx.gl20.glDisableVertexAttribArray(attribut);
+    }
+
+    /**
+     * Dessine les sprites un par un avec le SpriteBatch.
+     */
+    private void dessinerAvecBatch(SpriteBatch batch, SpriteInstances instances) {
+        Texture texture = instances.getTexture();
+        float couleurBatch = batch.getPackedColor();
+        for (int i = 0, n = instances.size(), k = 0; i < n; i++, k += SpriteInstances.FLOTTANTS) {
+            batch.setPackedColor(instances.get(k + 8));
+            batch.draw(texture, instances.get(k), instances.get(k + 1), instances.get(k + 2), instances.get(k + 3),
+                    instances.get(k + 4), instances.get(k + 5), instances.get(k + 6), instances.get(k + 7));
+        }
+        batch.setPackedColor(couleurBatch);
+    }
+
+    /**
+     * Teste le dessin instancié et crée le shader et les tampons.
+     * En cas d'échec, l'affichage utilise définitivement le SpriteBatch.
+     */
+    private void initialiser() {
+        initialise = true;
+        if (!instancing.isDisponible()) {
+            Gdx.app.log("Rendu", "Dessin instancié indisponible : affichage avec le SpriteBatch");
+            return;
+        }
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            Gdx.app.error("Rendu", "Erreur de compilation du shader instancié : " + shader.getLog());
+            shader.dispose();
+            shader = null;
+            return;
+        }
+        coin = shader.getAttributeLocation("a_coin");
+        rectangle = shader.getAttributeLocation("a_rectangle");
+        region = shader.getAttributeLocation("a_region");
+        couleur = shader.getAttributeLocation("a_couleur");
+
+        GL20 gl = Gdx.gl20;
+        FloatBuffer coins = BufferUtils.newFloatBuffer(8);
+        coins.put(new float[] {0, 0, 1, 0, 0, 1, 1, 1}).flip();
+        tamponCoins = gl.glGenBuffer();
+        gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, tamponCoins);
+        gl.glBufferData(GL20.GL_ARRAY_BUFFER, 8 * 4, coins, GL20.GL_STATIC_DRAW);
+        tamponInstances = gl.glGenBuffer();
+        gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+        instancie = true;
+        Gdx.app.log("Rendu", "Dessin instancié activé");
+    }
+
+    /**
+     * Indique si les sprites sont dessinés par instances plutôt qu'avec le SpriteBatch.
+     *
+     * @return true si le dessin instancié est utilisé (connu après le premier affichage).
+     */
+    public boolean isInstancie() {
+        return instancie;
+    }
+
+    /**
+     * Libère le shader et les tampons.
+     */
+    public void dispose() {
+        if (shader != null) shader.dispose();
+        if (tamponCoins != 0) Gdx.gl20.glDeleteBuffer(tamponCoins);
+        if (tamponInstances != 0) Gdx.gl20.glDeleteBuffer(tamponInstances);
+        shader = null;
+        tamponCoins = 0;
+        tamponInstances = 0;
+        initialise = false;
+        instancie = false;
+    }
+}
@@ -0,0 +1,155 @@
+package com.project.game.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.BufferUtils;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Liste des sprites d'une image, rangés hors du tas Java dans un tampon direct prêt à être envoyé à la carte graphique.
+ * Chaque sprite occupe {@link #FLOTTANTS} flottants : position, taille, coordonnées de texture et couleur
+ * (compactée comme dans {@link com.badlogic.gdx.graphics.g2d.SpriteBatch}).
+ * Tous les sprites partagent une même texture, celle de l'atlas dont proviennent leurs images.
+ * Le tampon n'est agrandi que lorsque sa capacité est dépassée : une fois la taille atteinte, remplir la liste n'alloue rien.
+ */
+public class SpriteInstances {
+
+    /**
+     * Nombre de flottants par sprite : x, y, largeur, hauteur, u, v2, u2, v, couleur.
+     */
+    public static final int FLOTTANTS = 9;
+
+    /**
+     * Données des sprites, hors du tas Java.
+     */
+    private FloatBuffer donnees;
+
+    /**
+     * Nombre de sprites dans la liste.
+     */
+    private int size;
+
+    /**
+     * Texture commune à tous les sprites, fixée par le premier sprite ajouté depuis une image.
+     */
+    private Texture texture;
+
+    /**
+     * Crée une liste vide.
+     *
+     * @param capacite Nombre de sprites pouvant être ajoutés sans agrandissement.
+     */
+    public SpriteInstances(int capacite) {
+        donnees = BufferUtils.newFloatBuffer(Math.max(1, capacite) * FLOTTANTS);
+    }
+
+    /**
+     * Ajoute un sprite à la taille de son image, sans teinte.
+     *
+     * @param region Image du sprite.
+     * @param x      Position en x du coin inférieur gauche.
+     * @param y      Position en y du coin inférieur gauche.
+     */
+    public void ajouter(TextureRegion region, float x, float y) {
+        ajouter(region, x, y, region.getRegionWidth(), region.getRegionHeight(), Color.WHITE_FLOAT_BITS);
+    }
+
+    /**
+     * Ajoute un sprite.
+     *
+     * @param region  Image du sprite, sur la même texture que les sprites déjà ajoutés.
+     * @param x       Position en x du coin inférieur gauche.
+     * @param y       Position en y du coin inférieur gauche.
+     * @param largeur Largeur affichée.
+     * @param hauteur Hauteur affichée.
+     * @param couleur Teinte compactée ({@link Color#toFloatBits()}).
+     * @throws IllegalArgumentException Si l'image n'est pas sur la texture des autres sprites.
+     */
+    public void ajouter(TextureRegion region, float x, float y, float largeur, float hauteur, float couleur) {
+        if (texture != region.getTexture()) {
+            if (texture != null && size > 0) {
+                throw new IllegalArgumentException("Les sprites d'une même liste doivent partager leur texture");
+            }
+            texture = region.getTexture();
+        }
+        // Le coin inférieur de l'image correspond à v2 : les coordonnées sont rangées du bas vers le haut
+        ajouter(x, y, largeur, hauteur, region.getU(), region.getV2(), region.getU2(), region.getV(), couleur);
+    }
+
+    /**
+     * Ajoute un sprite à partir de ses coordonnées de texture.
+     *
+     * @param x, y, largeur, hauteur Position du coin inférieur gauche et taille affichée.
+     * @param u, v, u2, v2           Coordonnées de texture des coins inférieur gauche et supérieur droit.
+     * @param couleur                Teinte compactée ({@link Color#toFloatBits()}).
+     */
+    public void ajouter(float x, float y, float largeur, float hauteur, float u, float v, float u2, float v2, float couleur) {
+        int k = size * FLOTTANTS;
+        if (k + FLOTTANTS > donnees.limit()) {
+            // Limite réduite par getDonnees(), ou tampon plein
+            if (k + FLOTTANTS > donnees.capacity()) {
+                agrandir();
+            }
+            donnees.limit(donnees.capacity());
+        }
+        FloatBuffer d = donnees;
+        d.put(k, x);
+        d.put(k + 1, y);
+        d.put(k + 2, largeur);
+        d.put(k + 3, hauteur);
+        d.put(k + 4, u);
+        d.put(k + 5, v);
+        d.put(k + 6, u2);
+        d.put(k + 7, v2);
+        d.put(k + 8, couleur);
+        size++;
+    }
+
+    /**
+     * Double la capacité du tampon, en conservant les sprites déjà ajoutés.
+     */
+    private void agrandir() {
+        FloatBuffer agrandi = BufferUtils.newFloatBuffer(donnees.capacity() * 2);
+        donnees.position(0).limit(size * FLOTTANTS);
+        agrandi.put(donnees);
+        donnees = agrandi;
+    }
+
+    /**
+     * Vide la liste, en gardant son tampon et sa texture.
+     */
+    public void clear() {
+        size = 0;
+        donnees.clear();
+    }
+
+    /**
+     * Retourne les données des sprites, de la position 0 à la fin du dernier sprite.
+     *
+     * @return Tampon direct, réutilisé d'une image à l'autre.
+     */
+    public FloatBuffer getDonnees() {
+        donnees.limit(size * FLOTTANTS).position(0);
+        return donnees;
+    }
+
+    /**
+     * Retourne la valeur d'un flottant de la liste.
+     *
+     * @param index Indice du flottant (sprite * {@link #FLOTTANTS} + champ).
+     * @return Valeur lue.
+     */
+    public float get(int index) {
+        return donnees.get(index);
+    }
+
+    public Texture getTexture() {
+        return texture;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,83 @@
+package com.project.game.replay;
+
+import com.project.game.platform.InputSource;
+import com.project.game.play.Play;
+
+/**
+ * Source d'entrées qui enregistre la partie qu'elle alimente.
+ * Au début de chaque pas, les actions du joueur sont lues sur la source réelle et ajoutées
+ * à l'enregistrement ; la simulation voit exactement ce masque, et se comporte donc comme lors de la relecture. Une empreinte de l'état est ajoutée tous les {@code intervalleHash} pas.
+ */
+public class InputRecorder implements InputSource {
+
+    /**
+     * Source des entrées réelles.
+     */
+    private final InputSource source;
+
+    /**
+     * Nombre de pas entre deux empreintes.
+     */
+    private final int intervalleHash;
+
+    /**
+     * Partie enregistrée et son enregistrement, créé lors de {@link #attacher(Play)}.
+     */
+    private Play play;
+    private Recording enregistrement;
+
+    /**
+     * Actions du pas en cours.
+     */
+    private int masque;
+
+    /**
+     * Crée un enregistreur, à attacher à la partie avant son premier pas.
+     *
+     * @param source         Source des entrées réelles.
+     * @param intervalleHash Nombre de pas entre deux empreintes.
+     */
+    public InputRecorder(InputSource source, int intervalleHash) {
+        this.source = source;
+        this.intervalleHash = intervalleHash;
+    }
+
+    /**
+     * Commence l'enregistrement de la partie, dont la graine et les réglages doivent déjà être fixés.
+     *
+     * @param play Partie alimentée par cet enregistreur.
+     */
+    public void attacher(Play play) {
+        this.play = play;
+        enregistrement = new Recording(play, intervalleHash);
+    }
+
+    @Override
+    public void nouveauPas() {
+        source.nouveauPas();
+        masque = source.getActions();
+        if (enregistrement == null) {
+            return;
+        }
+        // Empreinte de l'état atteint à la fin du pas précédent
+        int pas = enregistrement.nombrePas;
+        if (pas > 0 && pas % intervalleHash == 0) {
+            enregistrement.ajouterHash(play.hashEtat());
+        }
+        enregistrement.ajouterMasque(masque);
+    }
+
+    @Override
+    public int getActions() {
+        return masque;
+    }
+
+    /**
+     * Retourne l'enregistrement en cours, complété au fil des pas.
+     *
+     * @return L'enregistrement, ou null si aucune partie n'est attachée.
+     */
+    public Recording getEnregistrement() {
+        return enregistrement;
+    }
+}
@@ -0,0 +1,303 @@
+package com.project.game.replay;
+
+import com.project.game.play.Play;
+import com.project.game.play.SpawnTimeline;
+import com.project.game.play.Weapon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Enregistrement d'une partie : graine, réglages de la simulation, actions du joueur à chaque pas
+ * et empreintes de l'état tous les {@code intervalleHash} pas.
+ * La simulation de {@link Play} ne dépendant que de ces données, la partie peut être rejouée à l'identique,
+ * dans la fenêtre ou sans affichage ; les empreintes permettent de détecter une divergence.
+ * <p>
+ * Format binaire (big-endian) : en-tête (signature, version, graine, dimensions du monde, durée du pas,
+ * réglages), chronologie compilée des vagues s'il y en a une, puis les actions compressées par plages
+ * (masque sur un octet, longueur en entier variable), puis les empreintes.
+ */
+public class Recording {
+
+    /**
+     * Signature ("SPRP") et version du format.
+     */
+    private static final int SIGNATURE = 0x53505250;
+    private static final short VERSION = 7;
+
+    /**
+     * Intervalle par défaut entre deux empreintes (en pas, soit une seconde de jeu).
+     */
+    public static final int INTERVALLE_HASH = 60;
+
+    /**
+     * Graine, dimensions du monde et durée d'un pas de la partie enregistrée.
+     */
+    long graine;
+    float largeur, hauteur, pas;
+
+    /**
+     * Réglages de la partie au moment du premier pas.
+     */
+    int ennemisMax, ennemisMin, ennemisPourNiveau, vies;
+    float vitesseMax;
+    float intervalleTir, intervalleRafale;
+    int rafale;
+
+    /**
+     * Chronologie des vagues de la partie, ou null si les vagues étaient complétées automatiquement.
+     * Elle est enregistrée compilée : la relecture ne dépend ni du fichier du niveau, ni de sa compilation.
+     */
+    SpawnTimeline vagues;
+
+    /**
+     * Nombre de pas entre deux empreintes.
+     */
+    int intervalleHash;
+
+    /**
+     * Masques d'actions (voir {@link com.project.game.key.Actions}), un par pas, et nombre de pas enregistrés.
+     */
+    byte[] masques = new byte[1024];
+    int nombrePas;
+
+    /**
+     * Empreintes de l'état, la k-ième étant prise après (k + 1) * intervalleHash pas, et leur nombre.
+     */
+    long[] hashes = new long[64];
+    int nombreHashes;
+
+    Recording() {
+    }
+
+    /**
+     * Crée un enregistrement vide reprenant la graine et les réglages de la partie donnée.
+     *
+     * @param play           Partie à enregistrer, avant son premier pas.
+     * @param intervalleHash Nombre de pas entre deux empreintes.
+     */
+    Recording(Play play, int intervalleHash) {
+        if (intervalleHash < 1) {
+            throw new IllegalArgumentException("Intervalle d'empreinte invalide : " + intervalleHash);
+        }
+        graine = play.getGraine();
+        largeur = play.getBornes().getLargeur();
+        hauteur = play.getBornes().getHauteur();
+        pas = play.getPas();
+        ennemisMax = play.getEnnemisMax();
+        ennemisMin = play.getEnnemisMin();
+        ennemisPourNiveau = play.getEnnemisPourNiveau();
+        vies = play.getVies();
+        vitesseMax = play.getVitesseMax();
+        Weapon arme = play.getArme();
+        intervalleTir = arme.getIntervalle();
+        rafale = arme.getRafale();
+        intervalleRafale = arme.getIntervalleRafale();
+        vagues = play.getTimeline();
+        this.intervalleHash = intervalleHash;
+    }
+
+    /**
+     * Applique la graine et les réglages enregistrés à une nouvelle partie.
+     *
+     * @param play Partie à configurer, avant son premier pas.
+     */
+    public void configurer(Play play) {
+        play.setGraine(graine);
+        play.setFrequence(Math.round(1 / pas));
+        play.setEnnemisMax(ennemisMax);
+        play.setEnnemisMin(ennemisMin);
+        play.setEnnemisPourNiveau(ennemisPourNiveau);
+        play.setVitesseMax(vitesseMax);
+        play.setVies(vies);
+        play.setArme(new Weapon(intervalleTir, rafale, intervalleRafale));
+        if (vagues != null) {
+            play.setTimeline(vagues);
+        }
+    }
+
+    /**
+     * Ajoute le masque d'actions d'un pas.
+     */
+    void ajouterMasque(int masque) {
+        if (nombrePas == masques.length) {
+            byte[] agrandi = new byte[masques.length * 2];
+            System.arraycopy(masques, 0, agrandi, 0, nombrePas);
+            masques = agrandi;
+        }
+        masques[nombrePas++] = (byte) masque;
+    }
+
+    /**
+     * Ajoute une empreinte de l'état.
+     */
+    void ajouterHash(long hash) {
+        if (nombreHashes == hashes.length) {
+            long[] agrandi = new long[hashes.length * 2];
+            System.arraycopy(hashes, 0, agrandi, 0, nombreHashes);
+            hashes = agrandi;
+        }
+        hashes[nombreHashes++] = hash;
+    }
+
+    /**
+     * Écrit l'enregistrement dans un flux. Le flux n'est pas fermé.
+     *
+     * @param sortie Flux de destination.
+     * @throws IOException En cas d'erreur d'écriture.
+     */
+    public void ecrire(OutputStream sortie) throws IOException {
+        DataOutputStream out = new DataOutputStream(sortie);
+        out.writeInt(SIGNATURE);
+        out.writeShort(VERSION);
+        out.writeLong(graine);
+        out.writeFloat(largeur);
+        out.writeFloat(hauteur);
+        out.writeFloat(pas);
+        out.writeInt(ennemisMax);
+        out.writeInt(ennemisMin);
+        out.writeInt(ennemisPourNiveau);
+        out.writeInt(vies);
+        out.writeFloat(vitesseMax);
+        out.writeFloat(intervalleTir);
+        out.writeInt(rafale);
+        out.writeFloat(intervalleRafale);
+        out.writeInt(intervalleHash);
+        out.writeBoolean(vagues != null);
+        if (vagues != null) {
+            vagues.ecrire(out);
+        }
+
+        out.writeInt(nombrePas);
+        for (int i = 0; i < nombrePas; ) {
+            byte masque = masques[i];
+            int fin = i + 1;
+            while (fin < nombrePas && masques[fin] == masque) {
+                fin++;
+            }
+            out.writeByte(masque);
+            ecrireVariable(out, fin - i);
+            i = fin;
+        }
+
+        out.writeInt(nombreHashes);
+        for (int k = 0; k < nombreHashes; k++) {
+            out.writeLong(hashes[k]);
+        }
+        out.flush();
+    }
+
+    /**
+     * Lit un enregistrement depuis un flux. Le flux n'est pas fermé.
+     *
+     * @param entree Flux source.
+     * @return L'enregistrement lu.
+     * @throws IOException En cas d'erreur de lecture ou de format invalide.
+     */
+    public static Recording lire(InputStream entree) throws IOException {
+        DataInputStream in = new DataInputStream(entree);
+        if (in.readInt() != SIGNATURE) {
+            throw new IOException("Ce fichier n'est pas un enregistrement de partie");
+        }
+        short version = in.readShort();
+        if (version < VERSION) {
+            // Les versions précédentes avaient d'autres règles de collision, de placement ou de retrait des ennemis,
+            // ou une autre empreinte de l'état : leurs parties ne se rejouent plus à l'identique
+            throw new IOException("Enregistrement d'une version antérieure de la simulation : " + version);
+        }
+        if (version > VERSION) {
+            throw new IOException("Version d'enregistrement non prise en charge : " + version);
+        }
+
+        Recording r = new Recording();
+        r.graine = in.readLong();
+        r.largeur = in.readFloat();
+        r.hauteur = in.readFloat();
+        r.pas = in.readFloat();
+        r.ennemisMax = in.readInt();
+        r.ennemisMin = in.readInt();
+        r.ennemisPourNiveau = in.readInt();
+        r.vies = in.readInt();
+        r.vitesseMax = in.readFloat();
+        r.intervalleTir = in.readFloat();
+        r.rafale = in.readInt();
+        r.intervalleRafale = in.readFloat();
+        r.intervalleHash = in.readInt();
+        if (in.readBoolean()) {
+            r.vagues = SpawnTimeline.lire(in);
+        }
+
+        int nombrePas = in.readInt();
+        r.masques = new byte[Math.max(1, nombrePas)];
+        while (r.nombrePas < nombrePas) {
+            byte masque = in.readByte();
+            int longueur = lireVariable(in);
+            if (longueur <= 0 || longueur > nombrePas - r.nombrePas) {
+                throw new IOException("Enregistrement corrompu");
+            }
+            for (int i = 0; i < longueur; i++) {
+                r.masques[r.nombrePas++] = masque;
+            }
+        }
+
+        r.nombreHashes = in.readInt();
+        r.hashes = new long[Math.max(1, r.nombreHashes)];
+        for (int k = 0; k < r.nombreHashes; k++) {
+            r.hashes[k] = in.readLong();
+        }
+        return r;
+    }
+
+    /**
+     * Écrit un entier positif sur un nombre variable d'octets (7 bits par octet).
+     */
+    private static void ecrireVariable(DataOutputStream out, int valeur) throws IOException {
+        while ((valeur & ~0x7F) != 0) {
+            out.writeByte((valeur & 0x7F) | 0x80);
+            valeur >>>= 7;
+        }
+        out.writeByte(valeur);
+    }
+
+    /**
+     * Lit un entier écrit par {@link #ecrireVariable(DataOutputStream, int)}.
+     */
+    private static int lireVariable(DataInputStream in) throws IOException {
+        int valeur = 0;
+        for (int decalage = 0; decalage < 32; decalage += 7) {
+            int octet = in.readUnsignedByte();
+            valeur |= (octet & 0x7F) << decalage;
+            if ((octet & 0x80) == 0) {
+                return valeur;
+            }
+        }
+        throw new IOException("Enregistrement corrompu");
+    }
+
+    public long getGraine() {
+        return graine;
+    }
+
+    public float getLargeur() {
+        return largeur;
+    }
+
+    public float getHauteur() {
+        return hauteur;
+    }
+
+    public float getPas() {
+        return pas;
+    }
+
+    public int getNombrePas() {
+        return nombrePas;
+    }
+
+    public int getIntervalleHash() {
+        return intervalleHash;
+    }
+}
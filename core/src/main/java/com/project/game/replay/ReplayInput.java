@@ -0,0 +1,98 @@
+package com.project.game.replay;
+
+import com.project.game.platform.InputSource;
+import com.project.game.play.Play;
+
+/**
+ * Source d'entrées qui rejoue un enregistrement.
+ * Au début de chaque pas, le masque d'actions enregistré est restitué et, tous les {@code intervalleHash} pas,
+ * l'empreinte de l'état est comparée à celle de l'enregistrement. La première divergence est conservée.
+ * Une fois l'enregistrement épuisé, plus aucune action n'est enfoncée.
+ */
+public class ReplayInput implements InputSource {
+
+    /**
+     * Enregistrement rejoué.
+     */
+    private final Recording enregistrement;
+
+    /**
+     * Partie vérifiée, ou null si les empreintes ne sont pas contrôlées.
+     */
+    private Play play;
+
+    /**
+     * Nombre de pas commencés et actions du pas en cours.
+     */
+    private int pas;
+    private int masque;
+
+    /**
+     * Premier pas dont l'état diffère de l'enregistrement, ou -1.
+     */
+    private int pasDivergence = -1;
+
+    /**
+     * Crée la relecture d'un enregistrement.
+     *
+     * @param enregistrement Enregistrement à rejouer.
+     */
+    public ReplayInput(Recording enregistrement) {
+        this.enregistrement = enregistrement;
+    }
+
+    /**
+     * Configure une partie comme la partie enregistrée et contrôle désormais ses empreintes.
+     *
+     * @param play Partie neuve, alimentée par cette relecture.
+     */
+    public void attacher(Play play) {
+        this.play = play;
+        enregistrement.configurer(play);
+    }
+
+    @Override
+    public void nouveauPas() {
+        int intervalle = enregistrement.intervalleHash;
+        if (play != null && pasDivergence < 0 && pas > 0 && pas % intervalle == 0) {
+            int k = pas / intervalle - 1;
+            if (k < enregistrement.nombreHashes && play.hashEtat() != enregistrement.hashes[k]) {
+                pasDivergence = pas;
+            }
+        }
+        masque = pas < enregistrement.nombrePas ? enregistrement.masques[pas] : 0;
+        pas++;
+    }
+
+    @Override
+    public int getActions() {
+        return masque;
+    }
+
+    /**
+     * Indique si tous les pas enregistrés ont été rejoués.
+     *
+     * @return true si l'enregistrement est épuisé.
+     */
+    public boolean isTermine() {
+        return pas >= enregistrement.nombrePas;
+    }
+
+    /**
+     * Retourne le nombre de pas de simulation commencés.
+     *
+     * @return Nombre de pas.
+     */
+    public int getPas() {
+        return pas;
+    }
+
+    /**
+     * Retourne le premier pas à partir duquel l'état diffère de l'enregistrement.
+     *
+     * @return Numéro du pas, ou -1 si aucune divergence n'a été détectée.
+     */
+    public int getPasDivergence() {
+        return pasDivergence;
+    }
+}
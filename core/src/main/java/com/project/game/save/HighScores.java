@@ -0,0 +1,85 @@
+package com.project.game.save;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Table des meilleurs scores, triée du meilleur au moins bon (lue et écrite en JSON avec Gson).
+ */
+public class HighScores {
+
+    /**
+     * Nombre de scores conservés.
+     */
+    public static final int TAILLE = 10;
+
+    /**
+     * Scores conservés, du meilleur au moins bon.
+     */
+    private List<Entree> scores = new ArrayList<>();
+
+    /**
+     * Ajoute le score d'une partie terminée, s'il fait partie des meilleurs.
+     *
+     * @param score  Score de la partie.
+     * @param niveau Niveau atteint.
+     * @return Rang du score dans la table (0 pour le meilleur), ou -1 s'il n'y entre pas.
+     */
+    public int ajouter(int score, int niveau) {
+        if (scores == null) {
+            scores = new ArrayList<>();
+        }
+        int rang = 0;
+        while (rang < scores.size() && scores.get(rang).score >= score) {
+            rang++;
+        }
+        if (rang >= TAILLE) {
+            return -1;
+        }
+        scores.add(rang, new Entree(score, niveau));
+        while (scores.size() > TAILLE) {
+            scores.remove(scores.size() - 1);
+        }
+        return rang;
+    }
+
+    /**
+     * Retourne le meilleur score.
+     *
+     * @return Meilleur score, ou 0 si la table est vide.
+     */
+    public int getMeilleur() {
+        return scores == null || scores.isEmpty() ? 0 : scores.get(0).score;
+    }
+
+    /**
+     * Retourne les scores conservés, du meilleur au moins bon.
+     *
+     * @return Liste non modifiable.
+     */
+    public List<Entree> getScores() {
+        return scores == null ? Collections.emptyList() : Collections.unmodifiableList(scores);
+    }
+
+    /**
+     * Score d'une partie et niveau atteint.
+     */
+    public static class Entree {
+        private final int score;
+        private final int niveau;
+
+        Entree(int score, int niveau) {
+            this.score = score;
+            this.niveau = niveau;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public int getNiveau() {
+            return niveau;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.project.game.save;
+
+import com.badlogic.gdx.Gdx;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service d'écriture des fichiers sauvegardés (paramètres, touches, meilleurs scores, dernière partie).
+ * Les écritures ont lieu sur un fil d'arrière-plan : {@link #enregistrer(String, byte[])} ne fait que déposer
+ * le contenu et ne bloque jamais le fil de rendu. Plusieurs demandes pour un même fichier, faites avant
+ * qu'il ne soit écrit, sont regroupées : seul le dernier contenu est écrit.
+ * Chaque fichier est d'abord écrit dans un fichier temporaire, puis renommé : une interruption pendant
+ * l'écriture laisse donc l'ancienne version intacte, jamais un fichier à moitié écrit.
+ */
+public class PersistenceService {
+
+    /**
+     * Délai maximal d'attente des écritures en cours lors de la fermeture (en secondes).
+     */
+    private static final int ATTENTE_FERMETURE = 5;
+
+    /**
+     * Répertoire de base des chemins enregistrés.
+     */
+    private final File repertoire;
+
+    /**
+     * Sérialiseur des fichiers JSON.
+     */
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * Dernier contenu demandé pour chaque fichier pas encore écrit.
+     */
+    private final Map<String, byte[]> enAttente = new HashMap<>();
+
+    /**
+     * Fil d'arrière-plan qui écrit les fichiers, un à la fois.
+     */
+    private final ExecutorService ecrivain = Executors.newSingleThreadExecutor(tache -> {
+        Thread fil = new Thread(tache, "persistance");
+        fil.setDaemon(true);
+        return fil;
+    });
+
+    /**
+     * Crée le service.
+     *
+     * @param repertoire Répertoire de base des chemins enregistrés (en pratique, le stockage local de l'application).
+     */
+    public PersistenceService(File repertoire) {
+        this.repertoire = repertoire;
+    }
+
+    /**
+     * Lit un fichier JSON sauvegardé. La lecture est immédiate : elle est réservée au démarrage.
+     *
+     * @param chemin Chemin du fichier, relatif au répertoire de base.
+     * @param type   Type de l'objet lu.
+     * @return L'objet lu, ou null si le fichier est absent ou invalide.
+     */
+    public <T> T lireJson(String chemin, Class<T> type) {
+        File fichier = new File(repertoire, chemin);
+        if (!fichier.isFile()) {
+            return null;
+        }
+        try {
+            return gson.fromJson(new String(Files.readAllBytes(fichier.toPath()), StandardCharsets.UTF_8), type);
+        } catch (IOException | JsonParseException e) {
+            Gdx.app.error("PersistenceService", "Erreur de lecture de " + chemin + " : " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Demande l'écriture d'un objet en JSON. L'objet est converti immédiatement :
+     * il peut être modifié dès le retour de la méthode.
+     *
+     * @param chemin Chemin du fichier, relatif au répertoire de base.
+     * @param objet  Objet à sauvegarder.
+     */
+    public void enregistrerJson(String chemin, Object objet) {
+        enregistrer(chemin, gson.toJson(objet));
+    }
+
+    /**
+     * Demande l'écriture d'un fichier texte (UTF-8).
+     *
+     * @param chemin  Chemin du fichier, relatif au répertoire de base.
+     * @param contenu Contenu du fichier.
+     */
+    public void enregistrer(String chemin, String contenu) {
+        enregistrer(chemin, contenu.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Demande l'écriture d'un fichier. Le tableau ne doit plus être modifié par l'appelant.
+     *
+     * @param chemin  Chemin du fichier, relatif au répertoire de base.
+     * @param contenu Contenu du fichier.
+     */
+    public void enregistrer(String chemin, byte[] contenu) {
+        boolean planifier;
+        synchronized (enAttente) {
+            // Une écriture déjà planifiée pour ce fichier prendra le nouveau contenu
+            planifier = enAttente.put(chemin, contenu) == null;
+        }
+        if (planifier) {
+            ecrivain.execute(() -> ecrire(chemin));
+        }
+    }
+
+    /**
+     * Écrit le dernier contenu demandé pour un fichier. Exécutée par le fil d'arrière-plan.
+     *
+     * @param chemin Chemin du fichier, relatif au répertoire de base.
+     */
+    private void ecrire(String chemin) {
+        byte[] contenu;
+        synchronized (enAttente) {
+            contenu = enAttente.remove(chemin);
+        }
+        if (contenu == null) {
+            return;
+        }
+
+        File cible = new File(repertoire, chemin);
+        File temporaire = new File(cible.getPath() + ".tmp");
+        try {
+            File parent = cible.getParentFile();
+            if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+                throw new IOException("Impossible de créer " + parent);
+            }
+            try (FileOutputStream sortie = new FileOutputStream(temporaire)) {
+                sortie.write(contenu);
+                sortie.getFD().sync();
+            }
+            try {
+                Files.move(temporaire.toPath(), cible.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaire.toPath(), cible.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            temporaire.delete();
+            Gdx.app.error("PersistenceService", "Erreur d'écriture de " + chemin + " : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Écrit les fichiers encore en attente, puis arrête le fil d'arrière-plan.
+     * Appelée à la fermeture de l'application : c'est le seul moment où le fil de rendu attend les écritures.
+     */
+    public void dispose() {
+        ecrivain.shutdown();
+        try {
+            if (!ecrivain.awaitTermination(ATTENTE_FERMETURE, TimeUnit.SECONDS)) {
+                Gdx.app.error("PersistenceService", "Écritures non terminées à la fermeture");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
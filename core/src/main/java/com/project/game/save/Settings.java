@@ -0,0 +1,43 @@
+package com.project.game.save;
+
+/**
+ * Paramètres du jeu sauvegardés entre deux lancements (lus et écrits en JSON avec Gson).
+ */
+public class Settings {
+
+    /**
+     * Volume de la musique et des effets, entre 0.0 et 1.0.
+     */
+    private float volume = 1.0f;
+
+    /**
+     * Nombre maximal d'images par seconde pendant la partie, et dans les menus et l'écran de chargement.
+     * 0 ne limite pas (hors synchronisation verticale).
+     */
+    private int fpsJeu = 60;
+    private int fpsMenus = 30;
+
+    public float getVolume() {
+        return volume;
+    }
+
+    public void setVolume(float volume) {
+        this.volume = volume;
+    }
+
+    public int getFpsJeu() {
+        return fpsJeu;
+    }
+
+    public void setFpsJeu(int fpsJeu) {
+        this.fpsJeu = fpsJeu;
+    }
+
+    public int getFpsMenus() {
+        return fpsMenus;
+    }
+
+    public void setFpsMenus(int fpsMenus) {
+        this.fpsMenus = fpsMenus;
+    }
+}
@@ -20,6 +20,11 @@ public class MusicManager {
      */
     private float volume = 1.0f;
 
+    /**
+     * Indique si la musique a été suspendue par {@link #pause()}.
+     */
+    private boolean enPause;
+
     /**
      * Joue une nouvelle musique à partir du fichier spécifié.
      * Arrête et libère la musique actuelle si elle est en cours de lecture.
@@ -36,6 +41,7 @@ public class MusicManager {
         currentMusic.setLooping(true);
         currentMusic.setVolume(volume);
         currentMusic.play();
+        enPause = false;
     }
 
     /**
@@ -48,6 +54,26 @@ public class MusicManager {
         }
     }
 
+    /**
+     * Suspend la musique en cours de lecture, qui reprendra au même endroit avec {@link #resume()}.
+     */
+    public void pause() {
+        if (currentMusic != null && currentMusic.isPlaying()) {
+            currentMusic.pause();
+            enPause = true;
+        }
+    }
+
+    /**
+     * Reprend la musique suspendue par {@link #pause()}. Une musique arrêtée par {@link #stop()} le reste.
+     */
+    public void resume() {
+        if (currentMusic != null && enPause) {
+            currentMusic.play();
+        }
+        enPause = false;
+    }
+
     /**
      * Libère les ressources associées à la musique actuelle
      * et met à jour l'état du gestionnaire.
@@ -100,7 +126,7 @@ public class MusicManager {
      */
     public void playSound(Sound sound) {
         if (sound != null) {
-            sound.play(new MusicManager().getVolume());
+            sound.play(volume);
         }
     }
 
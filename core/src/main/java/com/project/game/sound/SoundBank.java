@@ -0,0 +1,169 @@
+package com.project.game.sound;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Sound;
+import com.project.game.platform.AudioSink;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Banque des effets sonores du jeu.
+ * Chaque effet est décodé une seule fois via {@link #charger(String, int, float)}, au démarrage,
+ * puis joué à travers un nombre borné de voix : au plus {@code maxVoix} lectures simultanées par effet
+ * (la plus ancienne est coupée au-delà) et au plus {@link #MAX_VOIX_TOTAL} pour toute la banque.
+ * Les demandes faites via {@link #jouer(String)} pendant la simulation sont regroupées :
+ * un même effet demandé plusieurs fois avant {@link #update(float, float)} n'est joué qu'une fois.
+ */
+public class SoundBank implements AudioSink {
+
+    /**
+     * Nombre maximal de voix jouées en même temps, tous effets confondus.
+     * Correspond au nombre de sources audio simultanées réservées par défaut par libGDX.
+     */
+    public static final int MAX_VOIX_TOTAL = 16;
+
+    /**
+     * Effet sonore chargé et ses voix en cours de lecture.
+     */
+    private static class Effet {
+        private final Sound son;
+        private final float duree;
+        private final long[] voix;
+        private final float[] fin;
+        private int prochaine;
+        private boolean demande;
+
+        private Effet(Sound son, int maxVoix, float duree) {
+            this.son = son;
+            this.duree = duree;
+            this.voix = new long[maxVoix];
+            this.fin = new float[maxVoix];
+        }
+    }
+
+    /**
+     * Effets chargés, indexés par leur chemin.
+     */
+    private final HashMap<String, Effet> effets = new HashMap<>();
+
+    /**
+     * Effets chargés, dans l'ordre de chargement, parcourus sans allocation à chaque image.
+     */
+    private final ArrayList<Effet> ordre = new ArrayList<>();
+
+    /**
+     * Temps écoulé depuis la création de la banque (en secondes), qui date la fin des voix.
+     */
+    private float horloge;
+
+    /**
+     * Décode un effet sonore et le garde en mémoire jusqu'à {@link #dispose()}.
+     * Un effet déjà chargé n'est pas décodé une seconde fois.
+     *
+     * @param chemin  Chemin interne du fichier son.
+     * @param maxVoix Nombre maximal de lectures simultanées de cet effet.
+     * @param duree   Durée de l'effet (en secondes), pendant laquelle une voix est considérée occupée.
+     */
+    public void charger(String chemin, int maxVoix, float duree) {
+        if (effets.containsKey(chemin)) {
+            return;
+        }
+        Effet effet = new Effet(Gdx.audio.newSound(Gdx.files.internal(chemin)), maxVoix, duree);
+        effets.put(chemin, effet);
+        ordre.add(effet);
+    }
+
+    /**
+     * Demande la lecture d'un effet, qui sera jouée lors du prochain {@link #update(float, float)}.
+     * Un effet non chargé est ignoré : aucun décodage n'a lieu pendant la partie.
+     *
+     * @param son Chemin interne du fichier son.
+     */
+    @Override
+    public void jouer(String son) {
+        Effet effet = effets.get(son);
+        if (effet != null) {
+            effet.demande = true;
+        }
+    }
+
+    /**
+     * Joue les effets demandés depuis le dernier appel, une seule fois chacun.
+     * Doit être appelée une fois par image, après la mise à jour de la simulation.
+     *
+     * @param delta  Temps écoulé depuis la dernière image (en secondes).
+     * @param volume Volume de lecture, compris entre 0.0 et 1.0.
+     */
+    public void update(float delta, float volume) {
+        horloge += delta;
+        int actives = compterVoixActives();
+        for (int i = 0, n = ordre.size(); i < n; i++) {
+            Effet effet = ordre.get(i);
+            if (!effet.demande) {
+                continue;
+            }
+            effet.demande = false;
+
+            int slot = effet.prochaine;
+            boolean libre = effet.fin[slot] <= horloge;
+            if (libre && actives >= MAX_VOIX_TOTAL) {
+                continue;
+            }
+            if (!libre) {
+                // Toutes les voix de l'effet sont occupées : la plus ancienne est coupée pour la nouvelle.
+                effet.son.stop(effet.voix[slot]);
+            } else {
+                actives++;
+            }
+            effet.voix[slot] = effet.son.play(volume);
+            effet.fin[slot] = horloge + effet.duree;
+            effet.prochaine = (slot + 1) % effet.voix.length;
+        }
+    }
+
+    /**
+     * Compte les voix encore en cours de lecture, tous effets confondus.
+     *
+     * @return Nombre de voix actives.
+     */
+    private int compterVoixActives() {
+        int actives = 0;
+        for (int i = 0, n = ordre.size(); i < n; i++) {
+            float[] fin = ordre.get(i).fin;
+            for (float f : fin) {
+                if (f > horloge) actives++;
+            }
+        }
+        return actives;
+    }
+
+    /**
+     * Suspend toutes les voix en cours de lecture.
+     */
+    public void pause() {
+        for (int i = 0, n = ordre.size(); i < n; i++) {
+            ordre.get(i).son.pause();
+        }
+    }
+
+    /**
+     * Reprend les voix suspendues par {@link #pause()}.
+     */
+    public void resume() {
+        for (int i = 0, n = ordre.size(); i < n; i++) {
+            ordre.get(i).son.resume();
+        }
+    }
+
+    /**
+     * Libère tous les effets chargés.
+     */
+    public void dispose() {
+        for (Effet effet : ordre) {
+            effet.son.dispose();
+        }
+        effets.clear();
+        ordre.clear();
+    }
+}
@@ -1,6 +1,9 @@
 package com.project.game.state;
 
 import com.badlogic.gdx.audio.Music;
+import com.project.game.Main;
+import com.project.game.RenderContext;
+import com.project.game.debug.PerfOverlay;
 
 /**
  * Classe abstraite représentant un état générique du jeu.
@@ -14,6 +17,11 @@ public abstract class GameState {
      */
     protected ManagerState gameStateManager;
 
+    /**
+     * Contexte de rendu partagé (SpriteBatch, caméra, polices), fourni par le gestionnaire des états.
+     */
+    protected final RenderContext contexte;
+
     /**
      * Musique de fond associée à cet état du jeu.
      */
@@ -26,6 +34,7 @@ public abstract class GameState {
      */
     public GameState(ManagerState managerState) {
         this.gameStateManager = managerState;
+        this.contexte = managerState.getContexte();
     }
 
     /**
@@ -40,6 +49,57 @@ public abstract class GameState {
      */
     public abstract void render();
 
+    /**
+     * Renseigne les statistiques propres à cet état (nombre d'entités) dans l'affichage des performances.
+     * Ne fait rien par défaut.
+     *
+     * @param overlay Affichage des performances.
+     */
+    public void remplirStatistiques(PerfOverlay overlay) {
+    }
+
+    /**
+     * Appelée lorsque la fenêtre est redimensionnée. Ne fait rien par défaut.
+     *
+     * @param width  Nouvelle largeur de la fenêtre.
+     * @param height Nouvelle hauteur de la fenêtre.
+     */
+    public void resize(int width, int height) {
+    }
+
+    /**
+     * Indique si l'affichage de l'état ne change qu'en réponse aux entrées (clic, touche).
+     * Un état statique n'est redessiné qu'à chaque événement, au lieu de dessiner sans cesse la même image.
+     * Faux par défaut.
+     *
+     * @return Vrai si l'état est statique.
+     */
+    public boolean isStatique() {
+        return false;
+    }
+
+    /**
+     * Retourne le nombre maximal d'images par seconde de l'état lorsqu'il est dessiné en continu.
+     * Par défaut, la limite des menus choisie dans les paramètres.
+     *
+     * @return Nombre maximal d'images par seconde, ou 0 pour ne pas limiter.
+     */
+    public int getFpsMax() {
+        return Main.getSettings().getFpsMenus();
+    }
+
+    /**
+     * Appelée lorsque l'application est mise en pause (fenêtre réduite ou sans focus). Ne fait rien par défaut.
+     */
+    public void pause() {
+    }
+
+    /**
+     * Appelée lorsque l'application reprend après une pause. Ne fait rien par défaut.
+     */
+    public void resume() {
+    }
+
     /**
      * Libère les ressources utilisées par cet état du jeu.
      * Cette méthode doit être implémentée par les sous-classes.
@@ -0,0 +1,141 @@
+package com.project.game.state;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.project.game.HudText;
+import com.project.game.Main;
+import com.project.game.RenderContext;
+
+/**
+ * État affiché pendant le chargement d'un autre état.
+ * Les ressources de l'état suivant sont décodées par l'{@link AssetManager} sur un fil secondaire ;
+ * leur envoi au GPU est réparti sur plusieurs images, sans dépasser {@link #BUDGET_MS} millisecondes par image.
+ * Une barre de progression est affichée, et l'état suivant n'est créé que lorsque tout est chargé.
+ */
+public class LoadingState extends GameState {
+
+    /**
+     * Temps maximal consacré au chargement à chaque image (en millisecondes).
+     */
+    private static final int BUDGET_MS = 8;
+
+    /**
+     * État à charger.
+     */
+    private final StateLoader chargeur;
+
+    /**
+     * Ressources demandées pour l'état à charger.
+     */
+    private final AssetDescriptor<?>[] ressources;
+
+    /**
+     * Gestionnaire de ressources de l'application.
+     */
+    private final AssetManager assets;
+
+    /**
+     * Texte de progression, mis en page uniquement lorsque le pourcentage change.
+     */
+    private final HudText texteProgression;
+
+    /**
+     * Indique si l'état suivant a été créé.
+     */
+    private boolean termine;
+
+    /**
+     * Constructeur de l'écran de chargement. Lance le chargement des ressources de l'état suivant.
+     *
+     * @param managerState Gestionnaire des états du jeu.
+     * @param chargeur     État à charger.
+     */
+    public LoadingState(ManagerState managerState, StateLoader chargeur) {
+        super(managerState);
+        this.chargeur = chargeur;
+        this.assets = Main.getAssetManager();
+        this.ressources = chargeur.getRessources();
+        this.texteProgression = new HudText(contexte.getPolice(), Color.WHITE, "Chargement (%) : ");
+        for (AssetDescriptor<?> ressource : ressources) {
+            assets.load(ressource);
+        }
+    }
+
+    /**
+     * Fait avancer le chargement dans la limite du budget de l'image,
+     * puis crée et active l'état suivant lorsque toutes ses ressources sont prêtes.
+     *
+     * @param delta Temps écoulé depuis la dernière image (en secondes).
+     */
+    @Override
+    public void update(float delta) {
+        boolean fini;
+        try {
+            fini = assets.update(BUDGET_MS);
+        } catch (GdxRuntimeException e) {
+            // La ressource fautive est abandonnée : l'état la rechargera ou utilisera sa solution de secours
+            Gdx.app.error("Main", "Erreur de chargement : " + e.getMessage());
+            return;
+        }
+        if (!fini) {
+            return;
+        }
+
+        GameState etat = chargeur.creer(gameStateManager);
+        // L'état a pris ses propres références : celles du préchargement sont rendues
+        for (AssetDescriptor<?> ressource : ressources) {
+            if (assets.isLoaded(ressource.fileName)) {
+                assets.unload(ressource.fileName);
+            }
+        }
+        termine = true;
+        gameStateManager.setState(etat);
+    }
+
+    /**
+     * Affiche la progression du chargement.
+     */
+    @Override
+    public void render() {
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float largeur = RenderContext.LARGEUR_MONDE;
+        float hauteur = RenderContext.HAUTEUR_MONDE;
+        float progression = assets.getProgress();
+        ShapeRenderer formes = contexte.getFormes();
+        SpriteBatch batch = contexte.getBatch();
+
+        formes.begin(ShapeRenderer.ShapeType.Filled);
+        formes.setColor(Color.DARK_GRAY);
+        formes.rect(largeur / 4, hauteur / 2 - 10, largeur / 2, 20);
+        formes.setColor(Color.WHITE);
+        formes.rect(largeur / 4, hauteur / 2 - 10, largeur / 2 * progression, 20);
+        formes.end();
+
+        texteProgression.setValeur((int) (progression * 100));
+        batch.begin();
+        texteProgression.draw(batch, largeur / 4, hauteur / 2 + 60);
+        batch.end();
+    }
+
+    /**
+     * Si le chargement est abandonné, les ressources demandées sont rendues.
+     */
+    @Override
+    public void dispose() {
+        if (!termine) {
+            for (AssetDescriptor<?> ressource : ressources) {
+                if (assets.contains(ressource.fileName)) {
+                    assets.unload(ressource.fileName);
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.project.game.state;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.project.game.RenderContext;
+import com.project.game.debug.PerfOverlay;
+
 /**
  * Classe de gestion des états du jeu.
  * Permet de contrôler le passage entre les différents états et de déléguer les mises à jour
@@ -13,6 +18,39 @@ public class ManagerState
      */
     private GameState gameState;
 
+    /**
+     * Contexte de rendu partagé par tous les états.
+     */
+    private final RenderContext contexte;
+
+    /**
+     * Affichage des performances, commun à tous les états et basculé avec la touche F3.
+     */
+    private final PerfOverlay overlay;
+
+    /**
+     * Mode de rendu (continu ou à la demande) et limite d'images par seconde actuellement appliqués,
+     * pour ne les changer que lorsque l'état actif le demande.
+     */
+    private boolean continuApplique = true;
+    private int fpsApplique = -1;
+
+    /**
+     * Indique si l'application est en pause (fenêtre réduite ou sans focus).
+     */
+    private boolean enPause;
+
+    /**
+     * Constructeur du gestionnaire des états.
+     *
+     * @param contexte Contexte de rendu partagé par tous les états.
+     */
+    public ManagerState(RenderContext contexte)
+    {
+        this.contexte = contexte;
+        this.overlay = new PerfOverlay(contexte);
+    }
+
     /**
      * Change l'état actuel du jeu.
      * Si un état est déjà actif, il est d'abord libéré via la méthode `dispose`.
@@ -25,6 +63,21 @@ public class ManagerState
             gameState.dispose();
         }
         gameState = state;
+        if (state != null) {
+            // Le nouvel état est dessiné au moins une fois, même s'il n'est redessiné qu'à la demande
+            Gdx.graphics.requestRendering();
+        }
+    }
+
+    /**
+     * Charge un état en arrière-plan, puis l'active lorsqu'il est prêt.
+     * Un écran de chargement remplace l'état actuel pendant le chargement.
+     *
+     * @param chargeur L'état à charger.
+     */
+    public void chargerState(StateLoader chargeur)
+    {
+        setState(new LoadingState(this, chargeur));
     }
 
     /**
@@ -35,15 +88,98 @@ public class ManagerState
      */
     public void update(float delta)
     {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            overlay.basculer();
+        }
+        overlay.debutImage();
         gameState.update(delta);
+        overlay.finMaj();
     }
 
     /**
      * Gère le rendu graphique de l'état actuel.
-     * Appelle la méthode `render` de l'état actif pour afficher ses éléments graphiques.
+     * Appelle la méthode `render` de l'état actif pour afficher ses éléments graphiques,
+     * puis l'affichage des performances s'il est activé.
      */
     public void render()
     {
+        overlay.debutRendu();
         gameState.render();
+        overlay.finRendu();
+
+        if (overlay.isActif()) {
+            overlay.effacerEntites();
+            gameState.remplirStatistiques(overlay);
+            overlay.render(Gdx.graphics.getDeltaTime());
+        }
+        appliquerRythme();
+    }
+
+    /**
+     * Règle le rythme des images selon l'état actif : un état statique n'est redessiné qu'à chaque entrée
+     * (les événements du clavier et de la souris demandent une image), les autres le sont en continu,
+     * dans la limite d'images par seconde de l'état. L'affichage des performances, qui évolue,
+     * force le rendu continu ; en pause, plus rien n'est redessiné en continu.
+     */
+    private void appliquerRythme()
+    {
+        boolean continu = !enPause && (overlay.isActif() || !gameState.isStatique());
+        if (continu != continuApplique) {
+            Gdx.graphics.setContinuousRendering(continu);
+            continuApplique = continu;
+        }
+        int fps = gameState.getFpsMax();
+        if (fps != fpsApplique) {
+            Gdx.graphics.setForegroundFPS(fps);
+            fpsApplique = fps;
+        }
+    }
+
+    /**
+     * Retourne le contexte de rendu partagé par tous les états.
+     *
+     * @return Contexte de rendu.
+     */
+    public RenderContext getContexte()
+    {
+        return contexte;
+    }
+
+    /**
+     * Transmet le redimensionnement de la fenêtre à l'état actif.
+     *
+     * @param width  Nouvelle largeur de la fenêtre.
+     * @param height Nouvelle hauteur de la fenêtre.
+     */
+    public void resize(int width, int height)
+    {
+        if (gameState != null) {
+            gameState.resize(width, height);
+        }
+    }
+
+    /**
+     * Transmet la mise en pause de l'application à l'état actif et cesse de redessiner en continu.
+     */
+    public void pause()
+    {
+        enPause = true;
+        if (gameState != null) {
+            gameState.pause();
+            appliquerRythme();
+        }
+    }
+
+    /**
+     * Transmet la reprise de l'application à l'état actif et rétablit son rythme d'images.
+     */
+    public void resume()
+    {
+        enPause = false;
+        if (gameState != null) {
+            gameState.resume();
+            appliquerRythme();
+            Gdx.graphics.requestRendering();
+        }
     }
 }
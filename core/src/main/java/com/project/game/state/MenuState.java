@@ -1,9 +1,15 @@
 package com.project.game.state;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.project.game.Main;
+import com.project.game.asset.TextureCache;
+import com.project.game.debug.StartupTimer;
 
 /**
  * État représentant le menu principal du jeu.
@@ -12,14 +18,9 @@ import com.badlogic.gdx.math.Rectangle;
 public class MenuState extends GameState {
 
     /**
-     * Gestionnaire de rendu graphique pour cet état.
+     * Images du fond et des boutons, tirées de l'atlas du menu.
      */
-    private SpriteBatch batch;
-
-    /**
-     * Zone cliquable pour les boutons.
-     */
-    private Texture menuTexture, startTexture, settingsTexture, exitTexture;
+    private TextureRegion menuTexture, startTexture, settingsTexture, exitTexture;
 
     /**
      * Zone cliquable pour le bouton "Exit".
@@ -28,7 +29,7 @@ public class MenuState extends GameState {
 
     /**
      * Constructeur de l'état du menu principal.
-     * Initialise les textures, zones cliquables, et le gestionnaire de rendu graphique.
+     * Initialise les textures et les zones cliquables.
      *
      * @param managerState Gestionnaire des états du jeu.
      */
@@ -36,16 +37,34 @@ public class MenuState extends GameState {
 
         super(managerState);
 
-        batch = new SpriteBatch();
+        TextureAtlas atlas = Main.getTextureCache().acquireAtlas(TextureCache.ATLAS_MENU);
+        menuTexture = atlas.findRegion("menu");
+        startTexture = atlas.findRegion("start");
+        settingsTexture = atlas.findRegion("settings");
+        exitTexture = atlas.findRegion("exit");
+
+        startAreas = new Rectangle(280, 320, startTexture.getRegionWidth(), startTexture.getRegionHeight());
+        optionsAreas = new Rectangle(280, 80, settingsTexture.getRegionWidth(), settingsTexture.getRegionHeight());
+        exitAreas = new Rectangle(660, 80, exitTexture.getRegionWidth(), exitTexture.getRegionHeight());
+    }
 
-        menuTexture = new Texture("menu/menu.png");
-        startTexture = new Texture("menu/start.png");
-        settingsTexture = new Texture("menu/settings.png");
-        exitTexture = new Texture("menu/exit.png");
+    /**
+     * Retourne le chargeur de cet état : l'atlas du menu est préchargé en arrière-plan.
+     *
+     * @return Chargeur à passer à {@link ManagerState#chargerState(StateLoader)}.
+     */
+    public static StateLoader chargement() {
+        return new StateLoader() {
+            @Override
+            public AssetDescriptor<?>[] getRessources() {
+                return new AssetDescriptor<?>[] { new AssetDescriptor<>(TextureCache.ATLAS_MENU, TextureAtlas.class) };
+            }
 
-        startAreas = new Rectangle(280, 320, startTexture.getWidth(), startTexture.getHeight());
-        optionsAreas = new Rectangle(280, 80, settingsTexture.getWidth(), settingsTexture.getHeight());
-        exitAreas = new Rectangle(660, 80, exitTexture.getWidth(), exitTexture.getHeight());
+            @Override
+            public GameState creer(ManagerState managerState) {
+                return new MenuState(managerState);
+            }
+        };
     }
 
     /**
@@ -58,46 +77,52 @@ public class MenuState extends GameState {
     public void update(float delta) {
 
         if (Gdx.input.justTouched()) {
-            int screenX = Gdx.input.getX();
-            int screenY = Gdx.input.getY();
-            int realY = Gdx.graphics.getHeight() - screenY;
+            Vector2 clic = contexte.versMonde(Gdx.input.getX(), Gdx.input.getY());
 
-            if (startAreas.contains(screenX, realY)) {
-                gameStateManager.setState(new PlayState(gameStateManager));
-            } else if (optionsAreas.contains(screenX, realY))
+            if (startAreas.contains(clic)) {
+                gameStateManager.chargerState(PlayState.chargement());
+            } else if (optionsAreas.contains(clic))
             {
                 gameStateManager.setState(new SettingsState(gameStateManager));
-            } else if (exitAreas.contains(screenX, realY)) {
+            } else if (exitAreas.contains(clic)) {
                 Gdx.app.exit();
             }
         }
     }
 
+    /**
+     * Le menu est une image fixe : il n'est redessiné qu'en réponse aux entrées.
+     *
+     * @return Vrai.
+     */
+    @Override
+    public boolean isStatique() {
+        return true;
+    }
+
     /**
      * Gère l'affichage graphique du menu principal.
      * Affiche les boutons et l'arrière-plan.
      */
     @Override
     public void render() {
+        SpriteBatch batch = contexte.getBatch();
         batch.begin();
         batch.draw(menuTexture, 0, 0);
         batch.draw(startTexture, startAreas.x, startAreas.y);
         batch.draw(settingsTexture, optionsAreas.x, optionsAreas.y);
         batch.draw(exitTexture, exitAreas.x, exitAreas.y);
         batch.end();
+        StartupTimer.marquer(StartupTimer.PREMIER_MENU);
     }
 
     /**
      * Libère les ressources utilisées par cet état.
-     * Nettoie les textures et le gestionnaire de rendu graphique.
+     * Rend l'atlas du menu.
      */
     @Override
     public void dispose() {
-        batch.dispose();
-        menuTexture.dispose();
-        startTexture.dispose();
-        settingsTexture.dispose();
-        exitTexture.dispose();
+        Main.getTextureCache().release(TextureCache.ATLAS_MENU);
     }
 }
 
@@ -3,16 +3,30 @@ package com.project.game.state;
 import com.badlogic.gdx.ApplicationListener;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.math.RandomXS128;
+import com.project.game.Main;
+import com.project.game.RenderContext;
+import com.project.game.asset.BackgroundLayer;
+import com.project.game.asset.TextureCache;
+import com.project.game.debug.PerfOverlay;
+import com.project.game.debug.StartupTimer;
+import com.project.game.platform.FixedWorldBounds;
 import com.project.game.play.Play;
+import com.project.game.play.PlayRenderer;
+import com.project.game.play.SpawnTimeline;
+import com.project.game.play.WaveFile;
+import com.project.game.replay.InputRecorder;
+import com.project.game.replay.Recording;
+import com.project.game.replay.ReplayInput;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
 
 /**
  * Classe représentant l'état principal du jeu.
@@ -21,176 +35,293 @@ import com.project.game.play.Play;
 public class PlayState extends GameState implements ApplicationListener {
 
     /**
-     * Carte Tiled utilisée comme arrière-plan.
+     * Carte Tiled de l'arrière-plan et image de secours.
      */
-    private TiledMap tiledMap;
+    private static final String CARTE = "fullBackground.tmx";
+    private static final String FOND_SECOURS = "background.png";
 
     /**
-     * Gestionnaire de rendu pour la carte Tiled.
+     * Description des vagues du niveau.
      */
-    private OrthogonalTiledMapRenderer tiledMapRenderer;
+    private static final String NIVEAU = "waves/niveau1.json";
 
     /**
-     * Caméra orthographique utilisée pour afficher la carte et les éléments du jeu.
+     * Fichier local où est enregistrée la dernière partie jouée.
      */
-    private OrthographicCamera camera;
+    public static final String DERNIERE_PARTIE = "replays/derniere.rpl";
 
     /**
-     * FrameBuffer pour capturer l'image du rendu Tiled.
+     * Arrière-plan de la partie : carte Tiled dessinée une seule fois, ou image de secours.
      */
-    private FrameBuffer frameBuffer;
+    private BackgroundLayer arrierePlan;
 
     /**
-     * Texture générée à partir du FrameBuffer pour afficher la carte Tiled.
+     * Instance de la classe logique pour gérer les événements et interactions du jeu.
      */
-    private Texture tiledTexture;
+    public Play play;
 
     /**
-     * Gestionnaire de rendu graphique.
+     * Affichage de la partie, qui possède ses ressources graphiques.
      */
-    private SpriteBatch spriteBatch;
+    private PlayRenderer playRenderer;
 
     /**
-     * Indicateur de l'état de la carte Tiled.
-     * Si vrai, la carte Tiled est active et affichée.
+     * Enregistreur des entrées de la partie jouée, ou relecture d'une partie enregistrée (l'un ou l'autre est null).
      */
-    private boolean tiledValue = false;
+    private InputRecorder enregistreur;
+    private ReplayInput relecture;
 
     /**
-     * Gestionnaire de rendu graphique principal.
+     * Indique si la divergence de la relecture a déjà été signalée.
      */
-    private SpriteBatch batch;
+    private boolean divergenceSignalee;
 
     /**
-     * Texture utilisée pour afficher l'arrière-plan du jeu.
+     * Indique si le score de la partie terminée a déjà été ajouté aux meilleurs scores.
      */
-    private Texture gameTexture;
+    private boolean scoreEnregistre;
 
     /**
-     * Instance de la classe logique pour gérer les événements et interactions du jeu.
+     * Indique si la partie est suspendue (fenêtre réduite ou sans focus).
      */
-    public Play play;
+    private boolean enPause;
 
     /**
      * Constructeur de l'état du jeu principal.
      * Initialise les éléments graphiques, la carte Tiled et la logique de jeu.
+     * Les entrées de la partie sont enregistrées, et sauvegardées dans {@link #DERNIERE_PARTIE} à la sortie.
      *
      * @param managerState Gestionnaire des états du jeu.
      */
     public PlayState(ManagerState managerState) {
         super(managerState);
-        batch = new SpriteBatch();
-        spriteBatch = new SpriteBatch();
 
-        // Chargement du fond d'écran
-        try {
-            gameTexture = new Texture("background.png");
+        enregistreur = new InputRecorder(Main.getKeyManager(), Recording.INTERVALLE_HASH);
+        play = new Play(new FixedWorldBounds(RenderContext.LARGEUR_MONDE, RenderContext.HAUTEUR_MONDE), enregistreur,
+                Main.getSoundBank());
+        chargerNiveau();
+        enregistreur.attacher(play);
+        initialiser();
+    }
+
+    /**
+     * Constructeur d'un état qui rejoue une partie enregistrée, au rythme normal du jeu.
+     * Le clavier est ignoré, à l'exception de la touche Échap.
+     *
+     * @param managerState   Gestionnaire des états du jeu.
+     * @param enregistrement Partie à rejouer.
+     */
+    public PlayState(ManagerState managerState, Recording enregistrement) {
+        super(managerState);
+
+        relecture = new ReplayInput(enregistrement);
+        play = new Play(new FixedWorldBounds(enregistrement.getLargeur(), enregistrement.getHauteur()),
+                relecture, Main.getSoundBank());
+        relecture.attacher(play);
+        initialiser();
+    }
+
+    /**
+     * Lit les vagues du niveau et les compile en chronologie d'apparitions pour la partie.
+     * Les motifs aléatoires sont tirés d'un générateur initialisé par la graine de la partie, distinct du sien :
+     * la compilation ne décale donc pas l'aléa de la simulation, et la chronologie est de toute façon enregistrée.
+     * Si le fichier est illisible, la partie garde les vagues complétées automatiquement.
+     */
+    private void chargerNiveau() {
+        try (Reader lecteur = Gdx.files.internal(NIVEAU).reader("UTF-8")) {
+            WaveFile fichier = WaveFile.lire(lecteur);
+            play.setTimeline(SpawnTimeline.compiler(fichier, new RandomXS128(play.getGraine()),
+                    play.getBornes().getLargeur(), play.getBornes().getHauteur()));
         } catch (Exception e) {
-            Gdx.app.error("Main", "Erreur de chargement du fond d'écran : " + e.getMessage());
-            gameTexture = null;
+            Gdx.app.error("PlayState", "Erreur de chargement du niveau " + NIVEAU + " : " + e.getMessage());
         }
+    }
 
-        play = new Play();
+    /**
+     * Crée l'affichage de la partie et l'arrière-plan.
+     */
+    private void initialiser() {
+        playRenderer = new PlayRenderer(play, contexte.getPolice(), contexte.getPoliceTitre(), contexte.getSprites());
 
-        // Chargement de la carte Tiled
-        try {
-            tiledMap = new TmxMapLoader().load("fullBackground.tmx");
-            tiledMapRenderer = new OrthogonalTiledMapRenderer(tiledMap);
+        arrierePlan = new BackgroundLayer(CARTE, FOND_SECOURS,
+                (int) RenderContext.LARGEUR_MONDE, (int) RenderContext.HAUTEUR_MONDE);
+    }
 
-            camera = new OrthographicCamera();
-            camera.setToOrtho(false, 1280, 720);  // Vue orthographique sans inversion verticale
-            camera.position.set(640, 360, 0);
+    /**
+     * Retourne le chargeur de cet état : l'atlas du jeu et la carte Tiled sont préchargés en arrière-plan.
+     *
+     * @return Chargeur à passer à {@link ManagerState#chargerState(StateLoader)}.
+     */
+    public static StateLoader chargement() {
+        return new StateLoader() {
+            @Override
+            public AssetDescriptor<?>[] getRessources() {
+                return new AssetDescriptor<?>[] {
+                        new AssetDescriptor<>(TextureCache.ATLAS_JEU, TextureAtlas.class),
+                        new AssetDescriptor<>(CARTE, TiledMap.class)
+                };
+            }
+
+            @Override
+            public GameState creer(ManagerState managerState) {
+                return new PlayState(managerState);
+            }
+        };
+    }
 
-            frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, 1280, 720, false);
-            tiledValue = true;
-            System.out.println("Tiled initialisé");
-        } catch (Exception e) {
-            Gdx.app.error("Main", "Erreur de chargement de la carte Tiled : " + e.getMessage());
-            tiledMap = null;
-            tiledMapRenderer = null;
-        }
+    /**
+     * Retourne le chargeur d'un état qui rejoue une partie enregistrée.
+     *
+     * @param enregistrement Partie à rejouer.
+     * @return Chargeur à passer à {@link ManagerState#chargerState(StateLoader)}.
+     */
+    public static StateLoader chargement(Recording enregistrement) {
+        StateLoader partie = chargement();
+        return new StateLoader() {
+            @Override
+            public AssetDescriptor<?>[] getRessources() {
+                return partie.getRessources();
+            }
+
+            @Override
+            public GameState creer(ManagerState managerState) {
+                return new PlayState(managerState, enregistrement);
+            }
+        };
     }
 
     /**
-     * Met à jour l'état du jeu.
+     * Met à jour l'état du jeu : fait avancer la simulation et joue les effets sonores demandés.
      * Permet de gérer les interactions utilisateur, comme le retour au menu principal via la touche Échap.
      *
      * @param delta Temps écoulé depuis la dernière image (en secondes).
      */
     @Override
     public void update(float delta) {
+        if (enPause) {
+            // La fenêtre peut encore être redessinée (survol de la souris) : la partie reste figée
+            return;
+        }
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
-            gameStateManager.setState(new MenuState(gameStateManager));
+            gameStateManager.chargerState(MenuState.chargement());
+            return;
+        }
+
+        play.update(delta);
+        playRenderer.update(delta);
+        if (play.isGameOver() && !scoreEnregistre && relecture == null) {
+            Main.ajouterScore(play.getScore(), play.getNiveau());
+            scoreEnregistre = true;
         }
+        if (relecture != null && !divergenceSignalee && relecture.getPasDivergence() >= 0) {
+            Gdx.app.error("Replay", "La partie rejouée diverge de l'enregistrement au pas " + relecture.getPasDivergence());
+            divergenceSignalee = true;
+        }
+        Main.getSoundBank().update(delta, Main.getMusicManager().getVolume());
+    }
+
+    /**
+     * Renseigne le nombre d'ennemis et de projectiles de la partie.
+     *
+     * @param overlay Affichage des performances.
+     */
+    @Override
+    public void remplirStatistiques(PerfOverlay overlay) {
+        overlay.setEntites(play.getEnnemis().size(), play.getProjectiles().size());
     }
 
     /**
      * Gère le rendu graphique de l'état du jeu.
-     * Met à jour la logique du jeu, puis affiche l'arrière-plan et les éléments graphiques de la partie.
+     * Affiche l'arrière-plan et les éléments graphiques de la partie.
      */
     @Override
     public void render() {
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        float delta = Gdx.graphics.getDeltaTime();
-        if (play != null) {
-            play.update(delta);
-        }
-
-        if (tiledValue) {
-            frameBuffer.begin();
-            tiledMapRenderer.setView(camera);
-            tiledMapRenderer.render();
-            frameBuffer.end();
-
-            tiledTexture = frameBuffer.getColorBufferTexture();
-
-            spriteBatch.begin();
-            spriteBatch.draw(tiledTexture, 0, 0);
-            spriteBatch.end();
-        }
-
+        SpriteBatch batch = contexte.getBatch();
         batch.begin();
 
-        if (gameTexture != null && !tiledValue) {
-            batch.draw(gameTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        }
+        arrierePlan.render(batch);
 
-        if (play != null) {
-            play.render(batch);
+        if (playRenderer != null) {
+            playRenderer.render(batch);
         }
 
         batch.end();
+        StartupTimer.marquer(StartupTimer.PREMIERE_PARTIE);
+    }
+
+    /**
+     * Limite d'images par seconde de la partie choisie dans les paramètres.
+     *
+     * @return Nombre maximal d'images par seconde, ou 0 pour ne pas limiter.
+     */
+    @Override
+    public int getFpsMax() {
+        return Main.getSettings().getFpsJeu();
     }
 
+    /**
+     * Suspend la simulation jusqu'à la reprise.
+     */
     @Override
     public void pause() {
+        enPause = true;
     }
 
+    /**
+     * Reprend la simulation sans rattraper le temps passé en pause.
+     * Le contenu du FrameBuffer peut être perdu avec le contexte graphique : l'arrière-plan est redessiné.
+     */
     @Override
     public void resume() {
+        enPause = false;
+        play.reprendre();
+        arrierePlan.invalider();
     }
 
     @Override
     public void create() {
     }
 
+    /**
+     * Redessine l'arrière-plan à la prochaine image.
+     *
+     * @param width  Nouvelle largeur de la fenêtre.
+     * @param height Nouvelle hauteur de la fenêtre.
+     */
     @Override
     public void resize(int width, int height) {
+        arrierePlan.invalider();
+    }
+
+    /**
+     * Sauvegarde l'enregistrement de la partie jouée dans {@link #DERNIERE_PARTIE}, en arrière-plan.
+     */
+    private void sauvegarderPartie() {
+        Recording enregistrement = enregistreur.getEnregistrement();
+        if (enregistrement == null || enregistrement.getNombrePas() == 0) {
+            return;
+        }
+        ByteArrayOutputStream octets = new ByteArrayOutputStream();
+        try {
+            enregistrement.ecrire(octets);
+        } catch (IOException e) {
+            Gdx.app.error("Replay", "Erreur d'enregistrement de la partie : " + e.getMessage());
+            return;
+        }
+        Main.getPersistance().enregistrer(DERNIERE_PARTIE, octets.toByteArray());
     }
 
     /**
      * Libère les ressources utilisées par cet état.
-     * Nettoie les textures, les gestionnaires de rendu et la logique de jeu.
+     * Nettoie les textures, les gestionnaires de rendu et la logique de jeu, après avoir sauvegardé la partie jouée.
      */
     @Override
     public void dispose() {
-        if (batch != null) batch.dispose();
-        if (gameTexture != null) gameTexture.dispose();
+        if (enregistreur != null) sauvegarderPartie();
         if (play != null) play.dispose();
-        if (tiledMap != null) tiledMap.dispose();
-        if (tiledMapRenderer != null) tiledMapRenderer.dispose();
-        if (frameBuffer != null) frameBuffer.dispose();
-        if (spriteBatch != null) spriteBatch.dispose();
+        if (playRenderer != null) playRenderer.dispose();
+        if (arrierePlan != null) arrierePlan.dispose();
     }
 }
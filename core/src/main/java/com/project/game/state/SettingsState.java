@@ -3,43 +3,56 @@ package com.project.game.state;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.project.game.HudText;
 import com.project.game.Main;
+import com.project.game.asset.TextureCache;
+import com.project.game.key.Actions;
 import com.project.game.key.KeyManager;
 
 /**
  * État des paramètres du jeu.
- * Permet de gérer l'interface des paramètres, notamment le réglage du volume de la musique
+ * Permet de gérer l'interface des paramètres, notamment le réglage du volume de la musique,
+ * le choix des touches de déplacement (clic sur une direction, puis appui sur la nouvelle touche)
  * et la navigation de retour au menu principal.
  */
 public class SettingsState extends GameState {
 
     /**
-     * Gestionnaire de rendu graphique pour cet état.
+     * Images de l'écran des paramètres, tirées de l'atlas du menu.
      */
-    private SpriteBatch batch;
+    private TextureRegion upTexture, downTexture, leftTexture, rightTexture, settingTexture, returnTexture, increaseTexture, decreaseTexture;
 
     /**
-     * Textures utilisées pour afficher l'écran des paramètres.
+     * Zones interactives définissant les clics sur les boutons.
      */
-    private Texture upTexture, downTexture, leftTexture, rightTexture, settingTexture, returnTexture, increaseTexture, decreaseTexture;
+    private Rectangle upAreas, downAreas, leftAreas, rightAreas, returnAreas, increaseAreas, decreaseAreas;
 
     /**
-     * Zones interactives définissant les clics sur les boutons.
+     * Textes affichant les touches de déplacement et le volume de la musique,
+     * mis en page uniquement lorsqu'ils changent.
      */
-    private Rectangle upAreas, downAreas, leftAreas, rightAreas, returnAreas, increaseAreas, decreaseAreas;
+    private HudText upText, downText, leftText, rightText, volumeText;
+
+    /**
+     * Texte affiché à la place d'une touche en attente de remplacement.
+     */
+    private static final String ATTENTE = "...";
 
     /**
-     * Police utilisée pour afficher le volume de la musique.
+     * Indique si une touche était attendue à l'image précédente : la touche Échap qui annule l'attente
+     * ne doit pas aussi quitter l'écran.
      */
-    private BitmapFont fontSound, fontSize;
+    private boolean attenteEnCours;
 
     /**
      * Constructeur de l'état des paramètres.
-     * Initialise les textures, zones interactives, et la police.
+     * Initialise les textures et les zones interactives.
      *
      * @param managerState Gestionnaire des états du jeu.
      */
@@ -47,29 +60,29 @@ public class SettingsState extends GameState {
 
         super(managerState);
 
-        batch = new SpriteBatch();
-        fontSize = new BitmapFont();
-        fontSize.setColor(Color.BLACK);
-        fontSound = new BitmapFont();
-        fontSound.setColor(Color.BLACK);
-        fontSound.getData().setScale(3);
-        fontSize.getData().setScale(2);
-
-        upTexture = new Texture("menu/settings/up.png");
-        downTexture = new Texture("menu/settings/down.png");
-        leftTexture = new Texture("menu/settings/left.png");
-        rightTexture = new Texture("menu/settings/right.png");
-        settingTexture = new Texture("menu/settings/setting.png");
-        returnTexture = new Texture("menu/settings/return.png");
-        increaseTexture = new Texture("menu/settings/increase.png");
-        decreaseTexture = new Texture("menu/settings/decrease.png");
-        upAreas = new Rectangle(520, 460, upTexture.getWidth(), upTexture.getHeight());
-        downAreas = new Rectangle(830, 460, downTexture.getWidth(), downTexture.getHeight());
-        leftAreas = new Rectangle(830, 330, leftTexture.getWidth(), leftTexture.getHeight());
-        rightAreas = new Rectangle(520, 330, rightTexture.getWidth(), rightTexture.getHeight());
-        returnAreas = new Rectangle(130, 60, returnTexture.getWidth(), returnTexture.getHeight());
-        increaseAreas = new Rectangle(880, 200, increaseTexture.getWidth(), increaseTexture.getHeight());
-        decreaseAreas = new Rectangle(520, 200, decreaseTexture.getWidth(), decreaseTexture.getHeight());
+        BitmapFont fontSize = contexte.getPolice();
+        upText = new HudText(fontSize, Color.BLACK, "");
+        downText = new HudText(fontSize, Color.BLACK, "");
+        leftText = new HudText(fontSize, Color.BLACK, "");
+        rightText = new HudText(fontSize, Color.BLACK, "");
+        volumeText = new HudText(contexte.getPoliceMoyenne(), Color.BLACK, "");
+
+        TextureAtlas atlas = Main.getTextureCache().acquireAtlas(TextureCache.ATLAS_MENU);
+        upTexture = atlas.findRegion("settings/up");
+        downTexture = atlas.findRegion("settings/down");
+        leftTexture = atlas.findRegion("settings/left");
+        rightTexture = atlas.findRegion("settings/right");
+        settingTexture = atlas.findRegion("settings/setting");
+        returnTexture = atlas.findRegion("settings/return");
+        increaseTexture = atlas.findRegion("settings/increase");
+        decreaseTexture = atlas.findRegion("settings/decrease");
+        upAreas = new Rectangle(520, 460, upTexture.getRegionWidth(), upTexture.getRegionHeight());
+        downAreas = new Rectangle(830, 460, downTexture.getRegionWidth(), downTexture.getRegionHeight());
+        leftAreas = new Rectangle(830, 330, leftTexture.getRegionWidth(), leftTexture.getRegionHeight());
+        rightAreas = new Rectangle(520, 330, rightTexture.getRegionWidth(), rightTexture.getRegionHeight());
+        returnAreas = new Rectangle(130, 60, returnTexture.getRegionWidth(), returnTexture.getRegionHeight());
+        increaseAreas = new Rectangle(880, 200, increaseTexture.getRegionWidth(), increaseTexture.getRegionHeight());
+        decreaseAreas = new Rectangle(520, 200, decreaseTexture.getRegionWidth(), decreaseTexture.getRegionHeight());
     }
 
     /**
@@ -81,37 +94,67 @@ public class SettingsState extends GameState {
      */
     @Override
     public void update(float delta) {
+        KeyManager touches = Main.getKeyManager();
+        boolean attenteAnnulee = attenteEnCours && touches.getActionEnAttente() == 0;
+        attenteEnCours = touches.getActionEnAttente() != 0;
 
         if (Gdx.input.justTouched()) {
-            int screenX = Gdx.input.getX();
-            int screenY = Gdx.input.getY();
-            int realY = Gdx.graphics.getHeight() - screenY;
+            Vector2 clic = contexte.versMonde(Gdx.input.getX(), Gdx.input.getY());
+
+            if (upAreas.contains(clic)) {
+                touches.attendreTouche(Actions.HAUT);
+            } else if (downAreas.contains(clic)) {
+                touches.attendreTouche(Actions.BAS);
+            } else if (leftAreas.contains(clic)) {
+                touches.attendreTouche(Actions.GAUCHE);
+            } else if (rightAreas.contains(clic)) {
+                touches.attendreTouche(Actions.DROITE);
+            }
+            attenteEnCours = touches.getActionEnAttente() != 0;
 
-            if (returnAreas.contains(screenX, realY)) {
+            if (returnAreas.contains(clic)) {
                 gameStateManager.setState(new MenuState(gameStateManager));
             }
 
-            if (increaseAreas.contains(screenX, realY)) {
+            if (increaseAreas.contains(clic)) {
                 Main.getMusicManager().volumeModification(0.1f);
             }
 
-            if (decreaseAreas.contains(screenX, realY)) {
+            if (decreaseAreas.contains(clic)) {
                 Main.getMusicManager().volumeModification(-0.1f);
             }
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE))
+        if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE) && !attenteAnnulee && !attenteEnCours)
         {
             gameStateManager.setState(new MenuState(gameStateManager));
         }
     }
 
+    /**
+     * Les touches et le volume affichés ne changent qu'après un clic ou une touche enfoncée.
+     *
+     * @return Vrai.
+     */
+    @Override
+    public boolean isStatique() {
+        return true;
+    }
+
     /**
      * Gère l'affichage graphique de l'état des paramètres.
      * Affiche les boutons, le fond, et le volume actuel.
      */
     @Override
     public void render() {
+        KeyManager touches = Main.getKeyManager();
+        upText.setTexte(nomTouche(touches, Actions.HAUT));
+        downText.setTexte(nomTouche(touches, Actions.BAS));
+        rightText.setTexte(nomTouche(touches, Actions.DROITE));
+        leftText.setTexte(nomTouche(touches, Actions.GAUCHE));
+        volumeText.setDixiemes(Main.getMusicManager().getVolume());
+
+        SpriteBatch batch = contexte.getBatch();
         batch.begin();
         batch.draw(settingTexture, 0, 0);
         batch.draw(upTexture, upAreas.x, upAreas.y);
@@ -120,31 +163,34 @@ public class SettingsState extends GameState {
         batch.draw(rightTexture, rightAreas.x, rightAreas.y);
         batch.draw(returnTexture, returnAreas.x, returnAreas.y);
         batch.draw(increaseTexture, increaseAreas.x, increaseAreas.y);
-        fontSize.draw(batch, String.valueOf(KeyManager.getUpKeyName()), 730, 520);
-        fontSize.draw(batch, String.valueOf(KeyManager.getDownKeyName()), 1040, 520);
-        fontSize.draw(batch, String.valueOf(KeyManager.getRightKeyName()), 730, 390);
-        fontSize.draw(batch, String.valueOf(KeyManager.getLeftKeyName()), 1040, 390);
-        fontSound.draw(batch, String.valueOf(Main.getMusicManager().getVolume()), 770, 250);
+        upText.draw(batch, 730, 520);
+        downText.draw(batch, 1040, 520);
+        rightText.draw(batch, 730, 390);
+        leftText.draw(batch, 1040, 390);
+        volumeText.draw(batch, 770, 250);
         batch.draw(decreaseTexture, decreaseAreas.x, decreaseAreas.y);
         batch.end();
     }
 
+    /**
+     * Retourne le texte affiché pour la touche d'une action.
+     *
+     * @param touches Correspondance entre les touches et les actions.
+     * @param action  Action affichée.
+     * @return Nom de la touche, ou {@link #ATTENTE} si une nouvelle touche est attendue.
+     */
+    private static String nomTouche(KeyManager touches, int action) {
+        return touches.getActionEnAttente() == action ? ATTENTE : touches.getNomTouche(action);
+    }
+
     /**
      * Libère les ressources utilisées par cet état.
-     * Nettoie les textures, polices, et autres éléments graphiques.
+     * Rend l'atlas du menu, annule l'attente d'une nouvelle touche et sauvegarde les paramètres en arrière-plan.
      */
     @Override
     public void dispose() {
-        batch.dispose();
-        fontSound.dispose();
-        fontSize.dispose();
-        upTexture.dispose();
-        downTexture.dispose();
-        leftTexture.dispose();
-        rightTexture.dispose();
-        settingTexture.dispose();
-        returnTexture.dispose();
-        increaseTexture.dispose();
-        decreaseTexture.dispose();
+        Main.getKeyManager().annulerAttente();
+        Main.sauvegarderParametres();
+        Main.getTextureCache().release(TextureCache.ATLAS_MENU);
     }
 }
@@ -0,0 +1,27 @@
+package com.project.game.state;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+
+/**
+ * Description d'un état dont les ressources sont chargées en arrière-plan avant sa création.
+ * Voir {@link ManagerState#chargerState(StateLoader)}.
+ */
+public interface StateLoader {
+
+    /**
+     * Retourne les ressources à charger avant la création de l'état.
+     * Leur décodage a lieu sur un fil secondaire ; seul l'envoi au GPU se fait sur le fil de rendu.
+     *
+     * @return Ressources à précharger.
+     */
+    AssetDescriptor<?>[] getRessources();
+
+    /**
+     * Crée l'état une fois ses ressources chargées.
+     * Appelée sur le fil de rendu : les ressources s'obtiennent alors sans attente via le cache de textures.
+     *
+     * @param managerState Gestionnaire des états du jeu.
+     * @return Le nouvel état.
+     */
+    GameState creer(ManagerState managerState);
+}
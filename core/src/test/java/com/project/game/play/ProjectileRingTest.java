@@ -0,0 +1,73 @@
+package com.project.game.play;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProjectileRingTest {
+
+    @Test
+    void capaciteArrondieALaPuissanceDeDeuxSuperieure() {
+        assertEquals(8, new ProjectileRing(5).getCapacite());
+        assertEquals(1, new ProjectileRing(0).getCapacite());
+    }
+
+    @Test
+    void tamponPleinRemplaceLePlusAncien() {
+        ProjectileRing projectiles = new ProjectileRing(4);
+        for (int k = 0; k < 6; k++) {
+            projectiles.ajouter(k, 0);
+        }
+        assertEquals(4, projectiles.size());
+        // Les deux premiers ont été remplacés : l'ordre d'ajout est conservé à travers le bout du tableau
+        for (int r = 0; r < 4; r++) {
+            assertEquals(r + 2, projectiles.x[projectiles.indice(r)], 0);
+        }
+        assertEquals(2, projectiles.indice(0));
+        assertEquals(1, projectiles.indice(3));
+    }
+
+    @Test
+    void retraitDesInactifsEnTeteApresLeBoutDuTableau() {
+        ProjectileRing projectiles = new ProjectileRing(4);
+        for (int k = 0; k < 6; k++) {
+            projectiles.ajouter(k, 0);
+        }
+        // Le plus ancien (indice 2) sort de l'écran, le suivant (indice 3) est détruit, le troisième (indice 0) vole
+        projectiles.y[projectiles.indice(0)] = 800;
+        projectiles.detruire(projectiles.indice(1));
+        projectiles.retirerInactifs(720);
+
+        assertEquals(2, projectiles.size());
+        assertEquals(0, projectiles.indice(0));
+        assertEquals(4, projectiles.x[projectiles.indice(0)], 0);
+        assertEquals(5, projectiles.x[projectiles.indice(1)], 0);
+    }
+
+    @Test
+    void retraitNeSautePasUnProjectileActif() {
+        ProjectileRing projectiles = new ProjectileRing(4);
+        projectiles.ajouter(0, 0);
+        projectiles.ajouter(1, 0);
+        projectiles.ajouter(2, 0);
+        // Un projectile détruit derrière un projectile actif attend que celui-ci soit retiré
+        projectiles.detruire(projectiles.indice(1));
+        projectiles.retirerInactifs(720);
+        assertEquals(3, projectiles.size());
+
+        projectiles.detruire(projectiles.indice(0));
+        projectiles.retirerInactifs(720);
+        assertEquals(1, projectiles.size());
+        assertEquals(2, projectiles.x[projectiles.indice(0)], 0);
+    }
+
+    @Test
+    void deplacementConserveLaPositionPrecedente() {
+        ProjectileRing projectiles = new ProjectileRing(2);
+        int i = projectiles.ajouter(10, 20);
+        projectiles.deplacer(5);
+        assertEquals(20, projectiles.yPrec[i], 0);
+        assertEquals(25, projectiles.y[i], 0);
+        assertEquals(22.5f, projectiles.getYInterpole(i, 0.5f), 0);
+    }
+}
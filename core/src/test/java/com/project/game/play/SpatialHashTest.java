@@ -0,0 +1,113 @@
+package com.project.game.play;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SpatialHashTest {
+
+    private static int[] trier(int[] resultats, int trouves) {
+        int[] copie = Arrays.copyOf(resultats, trouves);
+        Arrays.sort(copie);
+        return copie;
+    }
+
+    @Test
+    void requeteRenvoieLesEntitesVoisinesSeulement() {
+        SpatialHash grille = new SpatialHash(1280, 720, 128, 4);
+        grille.insert(0, 10, 10, 32, 32);
+        grille.insert(1, 140, 20, 32, 32);
+        grille.insert(2, 1000, 600, 32, 32);
+
+        int[] resultats = new int[8];
+        int trouves = grille.query(130, 10, 20, 10, resultats);
+        assertArrayEquals(new int[]{0, 1}, trier(resultats, trouves));
+        assertEquals(3, grille.size());
+    }
+
+    @Test
+    void requeteEstElargieDeLaPlusGrandeEntite() {
+        SpatialHash grille = new SpatialHash(1280, 720, 64, 4);
+        // Coin dans la cellule (0, 0), mais l'entité déborde jusqu'à x = 200
+        grille.insert(7, 10, 10, 190, 20);
+
+        int[] resultats = new int[8];
+        int trouves = grille.query(195, 15, 2, 2, resultats);
+        assertArrayEquals(new int[]{7}, trier(resultats, trouves));
+    }
+
+    @Test
+    void positionsHorsGrilleSontRameneesSurLesBords() {
+        SpatialHash grille = new SpatialHash(256, 256, 64, 4);
+        grille.insert(3, -500, -500, 10, 10);
+        grille.insert(4, 5000, 5000, 10, 10);
+
+        int[] resultats = new int[8];
+        assertArrayEquals(new int[]{3}, trier(resultats, grille.query(0, 0, 1, 1, resultats)));
+        assertArrayEquals(new int[]{4}, trier(resultats, grille.query(250, 250, 1, 1, resultats)));
+    }
+
+    @Test
+    void insertionAgranditLaGrilleEtClearLaVide() {
+        SpatialHash grille = new SpatialHash(128, 128, 128, 1);
+        for (int i = 0; i < 100; i++) {
+            grille.insert(i, 1, 1, 1, 1);
+        }
+        int[] resultats = new int[200];
+        assertEquals(100, grille.query(0, 0, 1, 1, resultats));
+
+        grille.clear();
+        assertEquals(0, grille.size());
+        assertEquals(0, grille.query(0, 0, 128, 128, resultats));
+    }
+
+    @Test
+    void requeteTronqueeALaTailleDuTableau() {
+        SpatialHash grille = new SpatialHash(128, 128, 128, 8);
+        for (int i = 0; i < 8; i++) {
+            grille.insert(i, 1, 1, 1, 1);
+        }
+        assertEquals(3, grille.query(0, 0, 1, 1, new int[3]));
+    }
+
+    @Test
+    void insertionParLotsDonneLeMemeOrdreQueLInsertionSequentielle() {
+        int n = 500;
+        float[] x = new float[n], y = new float[n], taille = new float[n];
+        java.util.Random aleatoire = new java.util.Random(1);
+        for (int i = 0; i < n; i++) {
+            x[i] = aleatoire.nextFloat() * 1400 - 60;
+            y[i] = aleatoire.nextFloat() * 800 - 40;
+            taille[i] = 8 + aleatoire.nextFloat() * 120;
+        }
+
+        SpatialHash sequentielle = new SpatialHash(1280, 720, 128, n);
+        for (int i = 0; i < n; i++) {
+            sequentielle.insert(i, x[i], y[i], taille[i], taille[i]);
+        }
+
+        // Les lots sont remplis dans le désordre, comme par des fils différents
+        SpatialHash parLots = new SpatialHash(1280, 720, 128, 0);
+        int lots = 3;
+        parLots.preparerLots(lots, n);
+        for (int k = lots - 1; k >= 0; k--) {
+            for (int i = n * k / lots; i < n * (k + 1) / lots; i++) {
+                parLots.insererDansLot(k, i, i, x[i], y[i], taille[i], taille[i]);
+            }
+        }
+        parLots.fusionnerLots();
+        assertEquals(n, parLots.size());
+
+        int[] attendus = new int[n], obtenus = new int[n];
+        for (float qy = -50; qy < 780; qy += 97) {
+            for (float qx = -50; qx < 1340; qx += 113) {
+                int trouves = sequentielle.query(qx, qy, 40, 40, attendus);
+                assertEquals(trouves, parLots.query(qx, qy, 40, 40, obtenus));
+                assertArrayEquals(Arrays.copyOf(attendus, trouves), Arrays.copyOf(obtenus, trouves));
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.game.play;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.project.game.platform.AudioSink;
+import com.project.game.platform.FixedWorldBounds;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpawnTimelineTest {
+
+    private static SpawnTimeline compiler(String json) {
+        return SpawnTimeline.compiler(WaveFile.lire(new StringReader(json)), new RandomXS128(1), 1280, 720);
+    }
+
+    @Test
+    void apparitionsTrieesParInstantDansLOrdreDuFichier() {
+        SpawnTimeline vagues = compiler("{ vagues: ["
+                + "{ temps: 2, motif: ligne, nombre: 3, x: 0, largeur: 1280 },"
+                + "{ temps: 1, x: 600, largeur: 128 },"
+                + "{ temps: 2, x: 1000, largeur: 128 }"
+                + "] }");
+
+        assertEquals(5, vagues.size());
+        assertEquals(1, vagues.temps[0], 0);
+        assertEquals(600, vagues.x[0], 0);
+        // Apparitions simultanées : la ligne, de gauche à droite, puis la vague suivante du fichier
+        float[] attendus = {0, 576, 1152, 1000};
+        for (int k = 1; k < 5; k++) {
+            assertEquals(2, vagues.temps[k], 0);
+            assertEquals(attendus[k - 1], vagues.x[k], 0);
+        }
+    }
+
+    @Test
+    void motifsEchelonnesDansLeTemps() {
+        SpawnTimeline vagues = compiler("{ vagues: [ { temps: 1, motif: colonne, nombre: 3, intervalle: 0.5 } ] }");
+        assertEquals(1, vagues.temps[0], 0);
+        assertEquals(1.5f, vagues.temps[1], 0);
+        assertEquals(2, vagues.temps[2], 0);
+        assertEquals(2, vagues.getDuree(), 0);
+    }
+
+    @Test
+    void niveauSansDureeNeBouclePas() {
+        assertTrue(compiler("{ duree: 4, vagues: [ { temps: 1 } ] }").boucle);
+        assertFalse(compiler("{ vagues: [] }").boucle);
+        assertFalse(compiler("{ boucle: false, duree: 4, vagues: [ { temps: 1 } ] }").boucle);
+    }
+
+    @Test
+    void vagueInvalideRefusee() {
+        assertThrows(IllegalArgumentException.class, () -> compiler("{ vagues: [ { nombre: -1 } ] }"));
+        assertThrows(IllegalArgumentException.class, () -> compiler("{ vagues: [ { motif: spirale } ] }"));
+    }
+
+    @Test
+    void niveauQuiBoucleReprendAuDebut() {
+        assertEquals(2, apparitions("{ duree: 1, bonusVitesseParNiveau: 0, vagues: [ { temps: 0.5, vitesse: 0 } ] }", 2));
+        assertEquals(1, apparitions("{ duree: 1, boucle: false, bonusVitesseParNiveau: 0, vagues: [ { temps: 0.5, vitesse: 0 } ] }", 2));
+    }
+
+    /**
+     * Joue un niveau sans tirer et compte les ennemis apparus, immobiles au-dessus de l'écran.
+     */
+    private static int apparitions(String json, float secondes) {
+        Play play = new Play(new FixedWorldBounds(1280, 720), () -> 0, AudioSink.SILENCE);
+        play.setTimeline(compiler(json));
+        float pas = play.getPas();
+        for (int i = 0, n = Math.round(secondes / pas); i < n; i++) {
+            play.tick(pas);
+        }
+        return play.getEnnemis().size();
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.game.play;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SweptAabbTest {
+
+    @Test
+    void instantDuContactFrontal() {
+        // Boîte de 10 en x = 0 avançant de 20 vers une boîte immobile en x = 15 : contact au quart du pas
+        float t = SweptAabb.instantContact(0, 0, 20, 0, 10, 10, 15, 0, 0, 0, 10, 10);
+        assertEquals(0.25f, t, 1e-6f);
+    }
+
+    @Test
+    void contactEnMouvementRelatif() {
+        // Les deux boîtes se rapprochent de 10 chacune : même contact qu'une seule boîte avançant de 20
+        float t = SweptAabb.instantContact(0, 0, 10, 0, 10, 10, 15, 0, -10, 0, 10, 10);
+        assertEquals(0.25f, t, 1e-6f);
+    }
+
+    @Test
+    void projectileRapideNeTraversePasUneCibleFine() {
+        // Projectile de 4 avançant de 100 à travers une cible de 2 d'épaisseur
+        float t = SweptAabb.instantContact(0, 0, 0, 100, 4, 4, 0, 50, 0, 0, 4, 2);
+        assertEquals(0.46f, t, 1e-6f);
+    }
+
+    @Test
+    void boitesDejaSuperposeesSeTouchentAuDebutDuPas() {
+        assertEquals(0, SweptAabb.instantContact(0, 0, 5, 5, 10, 10, 5, 5, 0, 0, 10, 10), 0);
+        assertEquals(0, SweptAabb.instantContact(0, 0, 0, 0, 10, 10, 5, 5, 0, 0, 10, 10), 0);
+    }
+
+    @Test
+    void aucunContact() {
+        // Trop loin pour être atteinte pendant le pas
+        assertEquals(SweptAabb.AUCUN_CONTACT, SweptAabb.instantContact(0, 0, 20, 0, 10, 10, 40, 0, 0, 0, 10, 10), 0);
+        // S'éloigne
+        assertEquals(SweptAabb.AUCUN_CONTACT, SweptAabb.instantContact(0, 0, -20, 0, 10, 10, 15, 0, 0, 0, 10, 10), 0);
+        // Passe à côté sur l'autre axe
+        assertEquals(SweptAabb.AUCUN_CONTACT, SweptAabb.instantContact(0, 0, 20, 0, 10, 10, 15, 20, 0, 0, 10, 10), 0);
+        // Bords qui se touchent sans se chevaucher
+        assertEquals(SweptAabb.AUCUN_CONTACT, SweptAabb.instantContact(0, 0, 0, 0, 10, 10, 10, 0, 0, 0, 10, 10), 0);
+        assertEquals(SweptAabb.AUCUN_CONTACT, SweptAabb.instantContact(0, 0, 5, 0, 10, 10, 15, 0, 0, 0, 10, 10), 0);
+    }
+}
@@ -0,0 +1,133 @@
+package com.project.game.replay;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.project.game.key.Actions;
+import com.project.game.play.SpawnTimeline;
+import com.project.game.play.WaveFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RecordingTest {
+
+    private static Recording enregistrement() {
+        Recording r = new Recording();
+        r.graine = 42;
+        r.largeur = 1280;
+        r.hauteur = 720;
+        r.pas = 1 / 60f;
+        r.ennemisMax = 13;
+        r.ennemisMin = 5;
+        r.ennemisPourNiveau = 5;
+        r.vies = 3;
+        r.vitesseMax = 400;
+        r.intervalleTir = 0.15f;
+        r.rafale = 1;
+        r.intervalleRafale = 0;
+        r.intervalleHash = Recording.INTERVALLE_HASH;
+        return r;
+    }
+
+    private static byte[] ecrire(Recording r) throws IOException {
+        ByteArrayOutputStream sortie = new ByteArrayOutputStream();
+        r.ecrire(sortie);
+        return sortie.toByteArray();
+    }
+
+    @Test
+    void allerRetour() throws IOException {
+        Recording r = enregistrement();
+        // Plages de 1 pas, de plus de 127 pas (longueur sur deux octets) et de plus de 16383 pas (trois octets)
+        int[] longueurs = {1, 1, 300, 128, 127, 20000, 1};
+        int[] masques = {0, Actions.TIR, Actions.GAUCHE | Actions.TIR, 0, Actions.DROITE, Actions.TIR, Actions.HAUT};
+        for (int p = 0; p < longueurs.length; p++) {
+            for (int i = 0; i < longueurs[p]; i++) {
+                r.ajouterMasque(masques[p]);
+            }
+        }
+        for (int k = 0; k < 100; k++) {
+            r.ajouterHash(k * 0x9E3779B97F4A7C15L);
+        }
+
+        Recording lu = Recording.lire(new ByteArrayInputStream(ecrire(r)));
+        assertEquals(r.graine, lu.getGraine());
+        assertEquals(r.largeur, lu.getLargeur(), 0);
+        assertEquals(r.hauteur, lu.getHauteur(), 0);
+        assertEquals(r.pas, lu.getPas(), 0);
+        assertEquals(r.ennemisMax, lu.ennemisMax);
+        assertEquals(r.ennemisMin, lu.ennemisMin);
+        assertEquals(r.vies, lu.vies);
+        assertEquals(r.intervalleTir, lu.intervalleTir, 0);
+        assertEquals(r.intervalleHash, lu.getIntervalleHash());
+        assertNull(lu.vagues);
+
+        assertEquals(r.nombrePas, lu.getNombrePas());
+        for (int i = 0; i < r.nombrePas; i++) {
+            assertEquals(r.masques[i], lu.masques[i]);
+        }
+        assertEquals(r.nombreHashes, lu.nombreHashes);
+        for (int k = 0; k < r.nombreHashes; k++) {
+            assertEquals(r.hashes[k], lu.hashes[k]);
+        }
+    }
+
+    @Test
+    void allerRetourAvecChronologie() throws IOException {
+        Recording r = enregistrement();
+        r.vagues = SpawnTimeline.compiler(WaveFile.lire(new StringReader(
+                "{ duree: 10, vagues: [ { temps: 1, motif: v, nombre: 5 }, { temps: 0.5, motif: aleatoire, nombre: 4 } ] }")),
+                new RandomXS128(7), 1280, 720);
+        r.ajouterMasque(Actions.TIR);
+
+        Recording lu = Recording.lire(new ByteArrayInputStream(ecrire(r)));
+        assertNotNull(lu.vagues);
+        assertEquals(r.vagues.size(), lu.vagues.size());
+        assertEquals(r.vagues.getDuree(), lu.vagues.getDuree(), 0);
+        assertEquals(1, lu.getNombrePas());
+        assertEquals(Actions.TIR, lu.masques[0]);
+    }
+
+    @Test
+    void enregistrementVide() throws IOException {
+        Recording lu = Recording.lire(new ByteArrayInputStream(ecrire(enregistrement())));
+        assertEquals(0, lu.getNombrePas());
+        assertEquals(0, lu.nombreHashes);
+    }
+
+    @Test
+    void plageTropLongueRefusee() throws IOException {
+        Recording r = enregistrement();
+        for (int i = 0; i < 3; i++) {
+            r.ajouterMasque(Actions.TIR);
+        }
+        byte[] octets = ecrire(r);
+        // Fin du fichier : masque, longueur de la plage sur un octet, puis nombre d'empreintes (0) sur quatre octets
+        int longueur = octets.length - 5;
+        assertEquals(3, octets[longueur]);
+
+        octets[longueur] = 4;
+        IOException erreur = assertThrows(IOException.class, () -> Recording.lire(new ByteArrayInputStream(octets)));
+        assertEquals("Enregistrement corrompu", erreur.getMessage());
+
+        octets[longueur] = 0;
+        assertThrows(IOException.class, () -> Recording.lire(new ByteArrayInputStream(octets)));
+    }
+
+    @Test
+    void fichierEtrangerOuTronqueRefuse() throws IOException {
+        assertThrows(IOException.class, () -> Recording.lire(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6})));
+
+        byte[] octets = ecrire(enregistrement());
+        byte[] tronque = Arrays.copyOf(octets, octets.length - 2);
+        assertThrows(IOException.class, () -> Recording.lire(new ByteArrayInputStream(tronque)));
+    }
+}
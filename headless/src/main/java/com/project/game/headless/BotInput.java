@@ -0,0 +1,35 @@
+package com.project.game.headless;
+
+import com.project.game.key.Actions;
+import com.project.game.platform.InputSource;
+
+/**
+ * Entrées simulées pour faire tourner une partie sans joueur.
+ * Le vaisseau tire en permanence et balaie l'écran de gauche à droite.
+ */
+public class BotInput implements InputSource {
+
+    /**
+     * Nombre de pas pendant lesquels le vaisseau garde la même direction.
+     */
+    private static final int PAS_PAR_DIRECTION = 120;
+
+    /**
+     * Nombre de pas simulés depuis le début de la partie.
+     */
+    private int pas;
+
+    /**
+     * Passe au pas de simulation suivant.
+     */
+    @Override
+    public void nouveauPas() {
+        pas++;
+    }
+
+    @Override
+    public int getActions() {
+        boolean versLaDroite = (pas / PAS_PAR_DIRECTION) % 2 == 0;
+        return Actions.TIR | (versLaDroite ? Actions.DROITE : Actions.GAUCHE);
+    }
+}
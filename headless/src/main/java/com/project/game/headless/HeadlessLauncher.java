@@ -0,0 +1,203 @@
+package com.project.game.headless;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.project.game.platform.AudioSink;
+import com.project.game.platform.FixedWorldBounds;
+import com.project.game.play.EntityStore;
+import com.project.game.play.Play;
+import com.project.game.play.ProjectileRing;
+import com.project.game.play.SpawnTimeline;
+import com.project.game.play.WaveFile;
+import com.project.game.replay.InputRecorder;
+import com.project.game.replay.Recording;
+import com.project.game.replay.ReplayInput;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lance une partie sans fenêtre ni contexte graphique : <code>HeadlessLauncher</code>.
+ * La simulation est avancée pas à pas aussi vite que possible, pour les tests de charge,
+ * l'équilibrage et les tests automatisés.
+ * <p>
+ * Arguments (facultatifs) : nombre de pas, nombre maximal d'ennemis, nombre d'ennemis à partir duquel
+ * le pas est calculé en parallèle.
+ * Avec <code>--vagues fichier</code>, les ennemis apparaissent selon les vagues d'un niveau (par exemple
+ * <code>assets/waves/niveau1.json</code>) au lieu d'être complétés automatiquement.
+ * Avec <code>--frequence n</code>, la simulation avance de n pas par seconde de jeu au lieu de 60.
+ * Avec <code>--record fichier</code>, la partie jouée par le bot est enregistrée ;
+ * avec <code>--replay fichier</code>, une partie enregistrée (par exemple depuis le jeu) est rejouée
+ * et ses empreintes d'état vérifiées.
+ * Avec <code>--verifier</code>, des situations de collision connues sont simulées et leur résultat vérifié.
+ */
+public class HeadlessLauncher
+{
+    /**
+     * Dimensions du monde simulé, identiques à la fenêtre du lanceur lwjgl3.
+     */
+    private static final float LARGEUR = 1280, HAUTEUR = 720;
+
+    /**
+     * Methode static main
+     * @param args Nombre de pas à simuler, nombre maximal d'ennemis, seuil du calcul parallèle ; options <code>--vagues</code>, <code>--frequence</code>, <code>--record</code>, <code>--replay</code> et <code>--verifier</code>.
+     * @throws IOException En cas d'erreur de lecture ou d'écriture d'un enregistrement.
+     */
+    public static void main(String[] args) throws IOException
+    {
+        String cheminRecord = null, cheminReplay = null, cheminVagues = null;
+        int frequence = Play.FREQUENCE_SIMULATION;
+        int[] nombres = new int[args.length];
+        int n = 0;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--record") && i + 1 < args.length) {
+                cheminRecord = args[++i];
+            } else if (args[i].equals("--frequence") && i + 1 < args.length) {
+                frequence = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--vagues") && i + 1 < args.length) {
+                cheminVagues = args[++i];
+            } else if (args[i].equals("--replay") && i + 1 < args.length) {
+                cheminReplay = args[++i];
+            } else if (args[i].equals("--verifier")) {
+                verifier();
+                return;
+            } else {
+                nombres[n++] = Integer.parseInt(args[i]);
+            }
+        }
+
+        if (cheminReplay != null) {
+            rejouer(cheminReplay);
+            return;
+        }
+
+        int nombrePas = n > 0 ? nombres[0] : 100_000;
+        int ennemisMax = n > 1 ? nombres[1] : 13;
+        int seuilParallele = n > 2 ? nombres[2] : Play.SEUIL_PARALLELE;
+
+        BotInput bot = new BotInput();
+        InputRecorder enregistreur = cheminRecord != null ? new InputRecorder(bot, Recording.INTERVALLE_HASH) : null;
+        Play play = new Play(new FixedWorldBounds(LARGEUR, HAUTEUR), enregistreur != null ? enregistreur : bot,
+                AudioSink.SILENCE);
+        play.setVies(Integer.MAX_VALUE);
+        play.setEnnemisMax(ennemisMax);
+        play.setEnnemisMin(Math.max(1, ennemisMax / 2));
+        play.setSeuilParallele(seuilParallele);
+        play.setFrequence(frequence);
+        if (cheminVagues != null) {
+            WaveFile fichier;
+            try (Reader lecteur = new InputStreamReader(new FileInputStream(cheminVagues), StandardCharsets.UTF_8)) {
+                fichier = WaveFile.lire(lecteur);
+            }
+            SpawnTimeline vagues = SpawnTimeline.compiler(fichier, new RandomXS128(play.getGraine()), LARGEUR, HAUTEUR);
+            play.setTimeline(vagues);
+            System.out.println(vagues.size() + " apparitions par passage du niveau, sur " + vagues.getDuree() + " s");
+        }
+        if (enregistreur != null) {
+            enregistreur.attacher(play);
+        }
+
+        float pas = play.getPas();
+        long debut = System.nanoTime();
+        for (int i = 0; i < nombrePas; i++) {
+            play.tick(pas);
+        }
+        double secondes = (System.nanoTime() - debut) / 1e9;
+
+        System.out.printf("%d pas simulés (%.1f s de jeu) en %.3f s : %.0f pas/s%n",
+                nombrePas, nombrePas * pas, secondes, nombrePas / secondes);
+        System.out.println("Score: " + play.getScore() + ", Level: " + play.getNiveau());
+        play.dispose();
+
+        if (enregistreur != null) {
+            try (OutputStream sortie = new BufferedOutputStream(new FileOutputStream(cheminRecord))) {
+                enregistreur.getEnregistrement().ecrire(sortie);
+            }
+            System.out.println("Partie enregistrée : " + cheminRecord);
+        }
+    }
+
+    /**
+     * Rejoue une partie enregistrée aussi vite que possible et vérifie ses empreintes d'état.
+     *
+     * @param chemin Chemin du fichier d'enregistrement.
+     * @throws IOException En cas d'erreur de lecture.
+     */
+    private static void rejouer(String chemin) throws IOException
+    {
+        Recording enregistrement;
+        try (InputStream entree = new BufferedInputStream(new FileInputStream(chemin))) {
+            enregistrement = Recording.lire(entree);
+        }
+
+        ReplayInput relecture = new ReplayInput(enregistrement);
+        Play play = new Play(new FixedWorldBounds(enregistrement.getLargeur(), enregistrement.getHauteur()),
+                relecture, AudioSink.SILENCE);
+        relecture.attacher(play);
+
+        float pas = enregistrement.getPas();
+        int nombrePas = enregistrement.getNombrePas();
+        long debut = System.nanoTime();
+        for (int i = 0; i < nombrePas; i++) {
+            play.tick(pas);
+        }
+        // Dernière vérification, sur l'état atteint après le dernier pas
+        relecture.nouveauPas();
+        double secondes = (System.nanoTime() - debut) / 1e9;
+
+        System.out.printf("%d pas rejoués (%.1f s de jeu) en %.3f s : %.0f pas/s, %.0f fois le temps réel%n",
+                nombrePas, nombrePas * pas, secondes, nombrePas / secondes, nombrePas * pas / secondes);
+        System.out.println("Score: " + play.getScore() + ", Level: " + play.getNiveau());
+        if (relecture.getPasDivergence() >= 0) {
+            System.out.println("DIVERGENCE au pas " + relecture.getPasDivergence());
+            System.exit(1);
+        }
+        System.out.println("Relecture identique à l'enregistrement");
+        play.dispose();
+    }
+
+    /**
+     * Simule des situations de collision connues et vérifie leur résultat. Quitte avec le code 1 en cas d'échec.
+     */
+    private static void verifier()
+    {
+        boolean reussi = verifierImpactAuBord();
+        System.out.println("Projectile sortant par le haut à 2 pas/s : " + (reussi ? "ennemi touché" : "ENNEMI MANQUÉ"));
+        if (!reussi) {
+            System.exit(1);
+        }
+        System.out.println("Vérifications réussies");
+    }
+
+    /**
+     * Un projectile qui traverse un ennemi collé au bord haut de l'écran puis sort de l'écran pendant le même pas
+     * doit le toucher, même à une fréquence de simulation très basse.
+     *
+     * @return Vrai si l'ennemi a été touché.
+     */
+    private static boolean verifierImpactAuBord()
+    {
+        Play play = new Play(new FixedWorldBounds(LARGEUR, HAUTEUR), () -> 0, AudioSink.SILENCE);
+        play.setEnnemisMin(0);
+        play.setFrequence(2);
+        EntityStore ennemis = play.getEnnemis();
+        ProjectileRing projectiles = play.getProjectiles();
+        ennemis.clear();
+        projectiles.clear();
+        // Ennemi immobile contre le bord haut ; le projectile, juste en dessous, le traverse et sort pendant le pas
+        ennemis.ajouter(600, HAUTEUR - 128, 0, 0, 128, 128);
+        projectiles.ajouter(650, HAUTEUR - 160);
+        int score = play.getScore();
+        play.tick(play.getPas());
+        boolean touche = play.getScore() > score;
+        play.dispose();
+        return touche;
+    }
+}
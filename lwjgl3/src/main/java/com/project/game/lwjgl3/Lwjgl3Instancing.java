@@ -0,0 +1,56 @@
+package com.project.game.lwjgl3;
+
+import com.project.game.platform.GpuInstancing;
+import org.lwjgl.opengl.ARBDrawInstanced;
+import org.lwjgl.opengl.ARBInstancedArrays;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL31C;
+import org.lwjgl.opengl.GL33C;
+import org.lwjgl.opengl.GLCapabilities;
+
+/**
+ * Dessin instancié avec LWJGL, dans le contexte OpenGL créé par libGDX.
+ * Utilise les fonctions d'OpenGL 3.1 et 3.3 si le contexte les fournit, ou sinon les extensions
+ * ARB équivalentes (par exemple sous Mesa llvmpipe en profil de compatibilité).
+ */
+public class Lwjgl3Instancing implements GpuInstancing
+{
+    /**
+     * Fonctions disponibles, déterminées au premier appel depuis le fil de rendu.
+     */
+    private boolean teste, dessinCoeur, diviseurCoeur, disponible;
+
+    @Override
+    public boolean isDisponible()
+    {
+        if (!teste) {
+            teste = true;
+            GLCapabilities capacites = GL.getCapabilities();
+            dessinCoeur = capacites.OpenGL31;
+            diviseurCoeur = capacites.OpenGL33;
+            disponible = (dessinCoeur || capacites.GL_ARB_draw_instanced)
+                    && (diviseurCoeur || capacites.GL_ARB_instanced_arrays);
+        }
+        return disponible;
+    }
+
+    @Override
+    public void setDiviseur(int attribut, int diviseur)
+    {
+        if (diviseurCoeur) {
+            GL33C.glVertexAttribDivisor(attribut, diviseur);
+        } else {
+            ARBInstancedArrays.glVertexAttribDivisorARB(attribut, diviseur);
+        }
+    }
+
+    @Override
+    public void dessiner(int mode, int premier, int nombreSommets, int instances)
+    {
+        if (dessinCoeur) {
+            GL31C.glDrawArraysInstanced(mode, premier, nombreSommets, instances);
+        } else {
+            ARBDrawInstanced.glDrawArraysInstancedARB(mode, premier, nombreSommets, instances);
+        }
+    }
+}
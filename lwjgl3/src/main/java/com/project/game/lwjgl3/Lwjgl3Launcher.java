@@ -3,6 +3,8 @@ package com.project.game.lwjgl3;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 import com.project.game.Main;
+import com.project.game.debug.StartupTimer;
+import com.project.game.platform.GpuInstancing;
 
 /**
  * Classe pour lancer l'application: <code>Lwjgl3Launcher</code>
@@ -14,21 +16,34 @@ public class Lwjgl3Launcher
 {
     /**
      * Methode static main
-     * @param args
+     * @param args <code>--replay fichier</code> pour rejouer une partie enregistrée au démarrage,
+     *             <code>--sprites</code> pour dessiner les entités avec le SpriteBatch plutôt que par instances,
+     *             <code>--entrainement</code> pour un lancement d'entraînement de l'archive CDS, qui quitte seul
      */
     public static void main(String[] args)
     {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        StartupTimer.marquer(StartupTimer.LANCEUR);
+        String cheminReplay = null;
+        boolean instances = true, entrainement = false;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--replay") && i + 1 < args.length) cheminReplay = args[i + 1];
+            if (args[i].equals("--sprites")) instances = false;
+            if (args[i].equals("--entrainement")) entrainement = true;
+        }
+        Main main = new Main(cheminReplay, instances ? new Lwjgl3Instancing() : GpuInstancing.AUCUN);
+        main.setEntrainement(entrainement);
+        createApplication(main);
     }
 
     /**
      * Methode static pour creer l'application <code>createApplication</code>
+     * @param main Application à lancer
      * @return Une fenetre avec les parametres definis dans <code>getDefaultConfiguration()</code>
      */
-    private static Lwjgl3Application createApplication()
+    private static Lwjgl3Application createApplication(Main main)
     {
-        return new Lwjgl3Application(new Main(), getDefaultConfiguration());
+        return new Lwjgl3Application(main, getDefaultConfiguration());
     }
 
     /**
@@ -45,7 +60,10 @@ public class Lwjgl3Launcher
         configuration.setWindowIcon("icon/icon128.png", "icon/icon64.png", "icon/icon32.png");
         configuration.useVsync(true);
         configuration.setForegroundFPS(60);
-        configuration.setIdleFPS(1);
+        // Sans image à dessiner (menus redessinés à la demande, jeu en pause), la boucle ne relève
+        // les entrées et ne remplit les tampons de la musique que idleFPS fois par seconde
+        configuration.setIdleFPS(30);
+        configuration.setPauseWhenLostFocus(true);
 
         return configuration;
     }